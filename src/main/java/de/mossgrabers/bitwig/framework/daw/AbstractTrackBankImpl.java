@@ -22,7 +22,10 @@ import com.bitwig.extension.controller.api.TrackBank;
  */
 public abstract class AbstractTrackBankImpl extends AbstractChannelBank
 {
-    protected TrackBank trackBank;
+    protected TrackBank   trackBank;
+
+    private final long [] notes      = new long [2];
+    private final int []  velocities = new int [128];
 
 
     /**
@@ -51,21 +54,38 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
             final int index = i;
             final Track t = this.trackBank.getItemAt (i);
             t.playingNotes ().addValueObserver (value -> this.handleNotes (index, value));
+
+            final ClipLauncherSlotBank slotBank = t.clipLauncherSlotBank ();
+            for (int s = 0; s < this.numScenes; s++)
+            {
+                final int sceneIndex = s;
+                slotBank.getItemAt (s).isRecording ().addValueObserver (isRecording -> this.handleSlotRecording (index, sceneIndex, isRecording));
+            }
         }
 
         this.trackBank.cursorIndex ().addValueObserver (index -> {
+            this.selectedTrackIndex = index >= 0 && index < this.numTracks ? index : -1;
+            this.clearPlayingNotes ();
             for (int i = 0; i < this.numTracks; i++)
             {
                 final boolean isSelected = index == i;
                 if (this.tracks[i].isSelected () != isSelected)
                     this.handleBankTrackSelection (i, isSelected);
             }
+
+            // Send the notes which are already playing on the newly selected track
+            this.resendPlayingNotes ();
         });
 
-        this.trackBank.channelCount ().markInterested ();
-        this.trackBank.scrollPosition ().markInterested ();
-        this.trackBank.canScrollChannelsUp ().markInterested ();
-        this.trackBank.canScrollChannelsDown ().markInterested ();
+        this.trackBank.channelCount ().addValueObserver (value -> this.changes.changed ());
+        // The requested page has arrived
+        this.trackBank.scrollPosition ().addValueObserver (value -> {
+            this.scrollTarget = -1;
+            this.clearPlayingNotes ();
+            this.changes.changed ();
+        });
+        this.trackBank.canScrollChannelsUp ().addValueObserver (value -> this.changes.changed ());
+        this.trackBank.canScrollChannelsDown ().addValueObserver (value -> this.changes.changed ());
         if (this.numScenes > 0)
             this.sceneBank = new SceneBankImpl (this.trackBank.sceneBank (), this.numScenes);
     }
@@ -118,6 +138,8 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
     @Override
     public void scrollTracksUp ()
     {
+        if (this.canScrollTracksUp ())
+            this.setScrollTarget (this.trackBank.scrollPosition ().get () - 1);
         this.trackBank.scrollBackwards ();
     }
 
@@ -126,6 +148,8 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
     @Override
     public void scrollTracksDown ()
     {
+        if (this.canScrollTracksDown ())
+            this.setScrollTarget (this.trackBank.scrollPosition ().get () + 1);
         this.trackBank.scrollForwards ();
     }
 
@@ -134,6 +158,8 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
     @Override
     public void scrollTracksPageUp ()
     {
+        if (this.canScrollTracksUp ())
+            this.setScrollTarget (this.trackBank.scrollPosition ().get () - this.numTracks);
         this.trackBank.scrollPageBackwards ();
     }
 
@@ -142,6 +168,8 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
     @Override
     public void scrollTracksPageDown ()
     {
+        if (this.canScrollTracksDown ())
+            this.setScrollTarget (this.trackBank.scrollPosition ().get () + this.numTracks);
         this.trackBank.scrollPageForwards ();
     }
 
@@ -150,8 +178,11 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
     @Override
     public void scrollToChannel (final int channel)
     {
-        if (channel >= 0 && channel < this.getTrackCount ())
-            this.trackBank.scrollPosition ().set (channel / this.numTracks * this.numTracks);
+        if (channel < 0 || channel >= this.getTrackCount ())
+            return;
+        final int position = channel / this.numTracks * this.numTracks;
+        this.setScrollTarget (position);
+        this.trackBank.scrollPosition ().set (position);
     }
 
 
@@ -194,6 +225,20 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
     }
 
 
+    /**
+     * Remember the position to which the bank is scrolled until the DAW confirms it. Only
+     * supported if the track positions are positions in the flat track list.
+     *
+     * @param position The position of the first track of the new page
+     */
+    protected void setScrollTarget (final int position)
+    {
+        final int target = Math.max (0, Math.min (position, this.getTrackCount () - 1));
+        if (this.isFlat && target != this.trackBank.scrollPosition ().get ())
+            this.scrollTarget = target;
+    }
+
+
     /**
      * Get the clip launcher slots of a track.
      *
@@ -221,9 +266,19 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void resendPlayingNotes ()
+    {
+        this.clearPlayingNotes ();
+        if (this.selectedTrackIndex >= 0)
+            this.handleNotes (this.selectedTrackIndex, this.trackBank.getItemAt (this.selectedTrackIndex).playingNotes ().get ());
+    }
+
+
     /**
-     * Handles the updates on all playing notes. Translates the note array into individual note
-     * observer updates of start and stopped notes.
+     * Handles the updates on all playing notes. Translates the note array into bit sets from
+     * which the started and stopped notes are calculated.
      *
      * @param index The index of a track
      * @param notes The currently playing notes
@@ -234,28 +289,15 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
         if (sel == null || sel.getIndex () != index)
             return;
 
-        final int [] nc = this.noteCache[index];
-        synchronized (nc)
+        this.notes[0] = 0;
+        this.notes[1] = 0;
+        for (final PlayingNote note: notes)
         {
-            // Send the new notes
-            for (final PlayingNote note: notes)
-            {
-                final int pitch = note.pitch ();
-                nc[pitch] = NOTE_ON_NEW;
-                this.notifyNoteObservers (pitch, note.velocity ());
-            }
-            // Send note offs
-            for (int i = 0; i < nc.length; i++)
-            {
-                if (nc[i] == NOTE_ON_NEW)
-                    nc[i] = NOTE_ON;
-                else if (nc[i] == NOTE_ON)
-                {
-                    nc[i] = NOTE_OFF;
-                    this.notifyNoteObservers (i, 0);
-                }
-            }
+            final int pitch = note.pitch ();
+            this.notes[pitch >> 6] |= 1L << (pitch & 63);
+            this.velocities[pitch] = note.velocity ();
         }
+        this.updatePlayingNotes (index, this.notes, this.velocities);
     }
 
 
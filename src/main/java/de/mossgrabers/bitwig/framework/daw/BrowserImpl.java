@@ -6,10 +6,13 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.BrowserColumnImpl;
 import de.mossgrabers.bitwig.framework.daw.data.BrowserColumnItemImpl;
+import de.mossgrabers.bitwig.framework.daw.data.BrowserItemPrefetcher;
 import de.mossgrabers.framework.daw.AbstractBrowser;
 import de.mossgrabers.framework.daw.ICursorDevice;
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
+import de.mossgrabers.framework.utils.HitCounter;
 
 import com.bitwig.extension.controller.api.BrowserFilterColumn;
 import com.bitwig.extension.controller.api.BrowserResultsItemBank;
@@ -25,32 +28,41 @@ import com.bitwig.extension.controller.api.PopupBrowser;
  */
 public class BrowserImpl extends AbstractBrowser
 {
+    /** The number of pages of results and filter entries which are prefetched. */
+    private static final int        PREFETCH_PAGES  = 4;
+
+    private IHost                   host;
     private CursorTrack             cursorTrack;
     private PopupBrowser            browser;
     final BrowserFilterColumn []    filterColumns;
+    private BrowserColumnImpl []    filterColumnData;
 
     private CursorBrowserResultItem cursorResult;
     private BrowserResultsItemBank  resultsItemBank;
+    private BrowserItemPrefetcher   resultPrefetcher;
+    private final HitCounter        cacheStatistics = new HitCounter ();
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param browser The browser
      * @param cursorTrack The cursor track
      * @param cursorDevice The cursor device
      * @param numFilterColumnEntries The number of entries in a filter column page
      * @param numResults The number of entries in a results column page
      */
-    public BrowserImpl (final PopupBrowser browser, final CursorTrack cursorTrack, final ICursorDevice cursorDevice, final int numFilterColumnEntries, final int numResults)
+    public BrowserImpl (final IHost host, final PopupBrowser browser, final CursorTrack cursorTrack, final ICursorDevice cursorDevice, final int numFilterColumnEntries, final int numResults)
     {
         super (cursorDevice, numFilterColumnEntries, numResults);
 
+        this.host = host;
         this.cursorTrack = cursorTrack;
 
         this.browser = browser;
-        this.browser.exists ().markInterested ();
-        this.browser.selectedContentTypeIndex ().markInterested ();
+        this.browser.exists ().addValueObserver (this::handleExists);
+        this.browser.selectedContentTypeIndex ().addValueObserver (index -> this.resetCaches (-1));
         this.browser.selectedContentTypeName ().markInterested ();
         this.browser.contentTypeNames ().markInterested ();
 
@@ -66,13 +78,15 @@ public class BrowserImpl extends AbstractBrowser
             this.browser.deviceColumn ()
         };
 
-        this.columnData = this.createFilterColumns (this.filterColumns.length, numFilterColumnEntries);
+        this.filterColumnData = this.createFilterColumns (this.filterColumns.length, numFilterColumnEntries);
+        this.columnData = this.filterColumnData;
 
         this.cursorResult = (CursorBrowserResultItem) this.browser.resultsColumn ().createCursorItem ();
         this.cursorResult.name ().markInterested ();
 
         this.resultsItemBank = (BrowserResultsItemBank) this.cursorResult.createSiblingsBank (this.numResults);
         this.resultData = this.createResultData (this.numResults);
+        this.resultPrefetcher = new BrowserItemPrefetcher (this.browser.resultsColumn (), this.resultsItemBank, this.resultData, PREFETCH_PAGES * this.numResults, this.cacheStatistics);
     }
 
 
@@ -80,7 +94,7 @@ public class BrowserImpl extends AbstractBrowser
     @Override
     public void enableObservers (final boolean enable)
     {
-        this.browser.exists ().setIsSubscribed (enable);
+        // The existence of the browser is always needed to detect if it is active
         this.browser.selectedContentTypeIndex ().setIsSubscribed (enable);
         this.browser.selectedContentTypeName ().setIsSubscribed (enable);
         this.browser.contentTypeNames ().setIsSubscribed (enable);
@@ -92,6 +106,21 @@ public class BrowserImpl extends AbstractBrowser
 
         for (final IBrowserColumnItem item: this.resultData)
             item.enableObservers (enable);
+        this.resultPrefetcher.enableObservers (enable);
+    }
+
+
+    /**
+     * Log the hit rate of the caches of the results and filter items when the browser is closed.
+     *
+     * @param exists True if the browser is open
+     */
+    private void handleExists (final boolean exists)
+    {
+        if (exists || this.cacheStatistics.getHits () + this.cacheStatistics.getMisses () == 0)
+            return;
+        this.host.println ("Browser cache: " + this.cacheStatistics);
+        this.cacheStatistics.reset ();
     }
 
 
@@ -201,6 +230,7 @@ public class BrowserImpl extends AbstractBrowser
     public void selectPreviousResult ()
     {
         this.cursorResult.selectPrevious ();
+        this.resultPrefetcher.moveCursor (-1);
     }
 
 
@@ -209,6 +239,7 @@ public class BrowserImpl extends AbstractBrowser
     public void selectNextResult ()
     {
         this.cursorResult.selectNext ();
+        this.resultPrefetcher.moveCursor (1);
     }
 
 
@@ -220,6 +251,22 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public IBrowserColumnItem [] getResultColumnItems ()
+    {
+        return this.resultPrefetcher.getItems ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public HitCounter getCacheStatistics ()
+    {
+        return this.cacheStatistics;
+    }
+
+
     /**
      * Select the previous result page.
      */
@@ -238,15 +285,39 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
-    private IBrowserColumn [] createFilterColumns (final int count, final int numFilterColumnEntries)
+    private BrowserColumnImpl [] createFilterColumns (final int count, final int numFilterColumnEntries)
     {
-        final IBrowserColumn [] columns = new IBrowserColumn [count];
+        final BrowserColumnImpl [] columns = new BrowserColumnImpl [count];
         for (int i = 0; i < count; i++)
-            columns[i] = new BrowserColumnImpl (this.filterColumns[i], i, numFilterColumnEntries);
+        {
+            final int index = i;
+            columns[i] = new BrowserColumnImpl (this.filterColumns[i], i, numFilterColumnEntries, PREFETCH_PAGES * numFilterColumnEntries, this.cacheStatistics, () -> this.resetCaches (index));
+        }
         return columns;
     }
 
 
+    /**
+     * Clear the cached results and filter entries since a filter or the content type has changed.
+     * The entries of the changed filter column stay valid.
+     *
+     * @param changedColumn The index of the filter column which has changed, -1 for the content
+     *            type
+     */
+    private void resetCaches (final int changedColumn)
+    {
+        if (this.resultPrefetcher != null)
+            this.resultPrefetcher.reset ();
+        if (this.filterColumnData == null)
+            return;
+        for (int i = 0; i < this.filterColumnData.length; i++)
+        {
+            if (i != changedColumn)
+                this.filterColumnData[i].resetCache ();
+        }
+    }
+
+
     private IBrowserColumnItem [] createResultData (final int count)
     {
         final IBrowserColumnItem [] items = new IBrowserColumnItem [count];
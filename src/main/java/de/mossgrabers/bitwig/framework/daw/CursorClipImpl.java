@@ -5,13 +5,19 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCounter;
 import de.mossgrabers.framework.daw.ICursorClip;
+import de.mossgrabers.framework.utils.LatencyCounter;
 
 import com.bitwig.extension.controller.api.Clip;
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.SettableColorValue;
 
-import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 
 /**
@@ -21,14 +27,31 @@ import java.util.Arrays;
  */
 public class CursorClipImpl implements ICursorClip
 {
-    private int             numSteps;
-    private int             numRows;
-
-    private final int [] [] data;
-    private Clip            clip;
-    private IValueChanger   valueChanger;
-    private int             editPage = 0;
-    private double          stepLength;
+    /** Pending edits which are not confirmed by Bitwig in this time are rolled back. */
+    private static final long               PENDING_TIMEOUT = 1000000000L;
+
+    private final LatencyCounter            overlayLatency  = new LatencyCounter ();
+    private final LatencyCounter            hostLatency     = new LatencyCounter ();
+    private final ChangeCounter             changes         = new ChangeCounter ();
+    private final ControllerHost            host;
+    /** The pending edits ordered by the time of the edit. */
+    private final Map<Integer, PendingStep> pendingSteps    = new LinkedHashMap<> ();
+    /** The velocity and duration of the notes which were set by us. */
+    private final Map<Integer, NoteData>    notes           = new HashMap<> ();
+    private int                             numRolledBack;
+    private boolean                         isRollbackScheduled;
+
+    private int              numSteps;
+    private int              numRows;
+
+    private final BitSet []  noteStarts;
+    private final BitSet []  noteContinues;
+    private final BitSet []  stepsWithData;
+    private final BitSet     rowsWithData;
+    private Clip             clip;
+    private IValueChanger    valueChanger;
+    private int              editPage = 0;
+    private double           stepLength;
 
 
     /**
@@ -41,36 +64,45 @@ public class CursorClipImpl implements ICursorClip
      */
     public CursorClipImpl (final ControllerHost host, final IValueChanger valueChanger, final int numSteps, final int numRows)
     {
+        this.host = host;
         this.valueChanger = valueChanger;
 
         this.numSteps = numSteps;
         this.numRows = numRows;
         this.stepLength = 1.0 / 4.0; // 16th
-        this.data = new int [this.numSteps] [];
-
-        for (int step = 0; step < this.numSteps; step++)
+        this.noteStarts = new BitSet [this.numRows];
+        this.noteContinues = new BitSet [this.numRows];
+        this.stepsWithData = new BitSet [this.numRows];
+        this.rowsWithData = new BitSet (this.numRows);
+        for (int row = 0; row < this.numRows; row++)
         {
-            this.data[step] = new int [this.numRows];
-            Arrays.fill (this.data[step], 0);
+            this.noteStarts[row] = new BitSet (this.numSteps);
+            this.noteContinues[row] = new BitSet (this.numSteps);
+            this.stepsWithData[row] = new BitSet (this.numSteps);
         }
+        this.clearNoteTable ();
 
         // TODO We need the old method back to monitor both launcher and arranger - otherwise use
         // both and check which one exists!
         this.clip = host.createLauncherCursorClip (this.numSteps, this.numRows);
 
-        this.clip.playingStep ().markInterested ();
+        this.clip.playingStep ().addValueObserver (value -> this.changes.changed ());
         this.clip.addStepDataObserver (this::handleStepData);
 
-        this.clip.getPlayStart ().markInterested ();
-        this.clip.getPlayStop ().markInterested ();
-        this.clip.getLoopStart ().markInterested ();
-        this.clip.getLoopLength ().markInterested ();
-        this.clip.isLoopEnabled ().markInterested ();
-        this.clip.getShuffle ().markInterested ();
-        this.clip.getAccent ().markInterested ();
-        this.clip.canScrollStepsBackwards ().markInterested ();
-        this.clip.canScrollStepsForwards ().markInterested ();
-        this.clip.color ().markInterested ();
+        // Forget the note data of the previous clip if the cursor clip follows another one
+        this.clip.exists ().addValueObserver (value -> this.handleClipChange ());
+        this.clip.getTrack ().position ().addValueObserver (value -> this.handleClipChange ());
+
+        this.clip.getPlayStart ().addValueObserver (value -> this.changes.changed ());
+        this.clip.getPlayStop ().addValueObserver (value -> this.changes.changed ());
+        this.clip.getLoopStart ().addValueObserver (value -> this.changes.changed ());
+        this.clip.getLoopLength ().addValueObserver (value -> this.changes.changed ());
+        this.clip.isLoopEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.clip.getShuffle ().addValueObserver (value -> this.changes.changed ());
+        this.clip.getAccent ().addValueObserver (value -> this.changes.changed ());
+        this.clip.canScrollStepsBackwards ().addValueObserver (value -> this.changes.changed ());
+        this.clip.canScrollStepsForwards ().addValueObserver (value -> this.changes.changed ());
+        this.clip.color ().addValueObserver ( (red, green, blue) -> this.changes.changed ());
     }
 
 
@@ -292,6 +324,14 @@ public class CursorClipImpl implements ICursorClip
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        return this.changes.getVersion ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getNumSteps ()
@@ -322,7 +362,74 @@ public class CursorClipImpl implements ICursorClip
     {
         if (row < 0)
             return 0;
-        return this.data[step][row];
+
+        // Edits which are not yet confirmed by Bitwig are displayed right away
+        final PendingStep pending = this.getPendingStep (step, row);
+        if (pending != null)
+            return pending.state;
+
+        if (this.noteStarts[row].get (step))
+            return 2;
+        return this.noteContinues[row].get (step) ? 1 : 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStepVelocity (final int step, final int row)
+    {
+        if (this.getStep (step, row) != 2)
+            return -1;
+        final NoteData note = this.notes.get (Integer.valueOf (this.getIndex (step, row)));
+        return note == null ? -1 : note.velocity;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getStepDuration (final int step, final int row)
+    {
+        if (this.getStep (step, row) != 2)
+            return 0;
+        final NoteData note = this.notes.get (Integer.valueOf (this.getIndex (step, row)));
+        if (note != null && note.duration > 0)
+            return note.duration;
+        // Not set by us, calculate it from the steps on which the note continues playing
+        final int end = this.noteContinues[row].nextClearBit (step + 1);
+        return (Math.min (end, this.numSteps) - step) * this.stepLength;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public LatencyCounter getStepLatency (final boolean withOverlay)
+    {
+        return withOverlay ? this.overlayLatency : this.hostLatency;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void recordDisplayedSteps ()
+    {
+        if (this.pendingSteps.isEmpty ())
+            return;
+        final long now = System.nanoTime ();
+        for (final PendingStep pending: this.pendingSteps.values ())
+        {
+            if (pending.isDisplayed)
+                continue;
+            pending.isDisplayed = true;
+            this.overlayLatency.record (now - pending.time);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumRolledBackSteps ()
+    {
+        return this.numRolledBack;
     }
 
 
@@ -330,6 +437,19 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public void toggleStep (final int step, final int row, final int velocity)
     {
+        if (row >= 0 && row < this.numRows)
+        {
+            if (this.getStep (step, row) == 2)
+            {
+                this.setNoteData (step, row, -1, 0);
+                this.setPending (step, row, 0);
+            }
+            else
+            {
+                this.setNoteData (step, row, velocity, this.stepLength);
+                this.setPending (step, row, 2);
+            }
+        }
         this.clip.toggleStep (step, row, velocity);
     }
 
@@ -338,14 +458,39 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public void setStep (final int step, final int row, final int velocity, final double duration)
     {
+        if (row >= 0 && row < this.numRows)
+        {
+            this.setNoteData (step, row, velocity, duration);
+            this.setPending (step, row, 2);
+        }
         this.clip.setStep (step, row, velocity, duration);
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void updateStep (final int step, final int row, final int velocity, final double duration)
+    {
+        if (row >= 0 && row < this.numRows)
+        {
+            final NoteData note = this.notes.get (Integer.valueOf (this.getIndex (step, row)));
+            if (note != null && note.velocity == Math.min (velocity, 127) && note.duration == duration)
+                return;
+        }
+        this.clip.clearStep (step, row);
+        this.setStep (step, row, velocity, duration);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void clearStep (final int step, final int row)
     {
+        if (row >= 0 && row < this.numRows)
+        {
+            this.setNoteData (step, row, -1, 0);
+            this.setPending (step, row, 0);
+        }
         this.clip.clearStep (step, row);
     }
 
@@ -354,6 +499,14 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public void clearRow (final int row)
     {
+        if (row >= 0 && row < this.numRows)
+        {
+            final int first = this.getIndex (0, row);
+            final int last = this.getIndex (this.numSteps - 1, row);
+            this.notes.keySet ().removeIf (index -> index.intValue () >= first && index.intValue () <= last);
+            for (int step = this.getNextStepWithData (row, 0); step >= 0; step = this.getNextStepWithData (row, step + 1))
+                this.setPending (step, row, 0);
+        }
         this.clip.clearSteps (row);
     }
 
@@ -362,10 +515,7 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public boolean hasRowData (final int row)
     {
-        for (int step = 0; step < this.numSteps; step++)
-            if (this.data[step][row] > 0)
-                return true;
-        return false;
+        return this.rowsWithData.get (row);
     }
 
 
@@ -373,10 +523,7 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public int getLowerRowWithData ()
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (row))
-                return row;
-        return -1;
+        return this.rowsWithData.nextSetBit (0);
     }
 
 
@@ -384,10 +531,27 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public int getUpperRowWithData ()
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (row))
-                return row;
-        return -1;
+        return this.rowsWithData.previousSetBit (this.numRows - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNextStepWithData (final int row, final int step)
+    {
+        if (row < 0 || row >= this.numRows || step < 0 || step >= this.numSteps)
+            return -1;
+        return this.stepsWithData[row].nextSetBit (step);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPreviousStepWithData (final int row, final int step)
+    {
+        if (row < 0 || row >= this.numRows || step < 0)
+            return -1;
+        return this.stepsWithData[row].previousSetBit (Math.min (step, this.numSteps - 1));
     }
 
 
@@ -412,6 +576,7 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public void scrollTo (final int step, final int row)
     {
+        this.clearNoteTable ();
         this.clip.scrollToKey (row);
         this.clip.scrollToStep (step);
     }
@@ -421,6 +586,7 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public void scrollToPage (final int page)
     {
+        this.clearNoteTable ();
         this.clip.scrollToStep (page * this.numSteps);
         this.editPage = page;
     }
@@ -440,6 +606,7 @@ public class CursorClipImpl implements ICursorClip
     {
         if (this.editPage <= 0)
             return;
+        this.clearNoteTable ();
         this.clip.scrollStepsPageBackwards ();
         this.editPage--;
     }
@@ -449,6 +616,7 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public void scrollStepsPageForward ()
     {
+        this.clearNoteTable ();
         this.clip.scrollStepsPageForward ();
         this.editPage++;
     }
@@ -506,9 +674,178 @@ public class CursorClipImpl implements ICursorClip
     }
 
 
+    private void handleClipChange ()
+    {
+        this.clearNoteTable ();
+        this.changes.changed ();
+    }
+
+
     private void handleStepData (final int col, final int row, final int state)
     {
         // state: step is empty (0) or a note continues playing (1) or starts playing (2)
-        this.data[col][row] = state;
+        // A pending edit is confirmed if the same state is reported. Other states might be
+        // intermediate (e.g. clearing before setting a note), if the edit is never confirmed it is
+        // rolled back after a timeout
+        final PendingStep pending = this.getPendingStep (col, row);
+        if (pending != null && pending.state == state)
+        {
+            this.hostLatency.record (System.nanoTime () - pending.time);
+            this.pendingSteps.remove (Integer.valueOf (this.getIndex (col, row)));
+        }
+
+        this.changes.changed ();
+
+        final BitSet starts = this.noteStarts[row];
+        final BitSet continues = this.noteContinues[row];
+        starts.set (col, state == 2);
+        continues.set (col, state == 1);
+        this.updateStepWithData (col, row);
+
+        // The note was removed or replaced by a continuing note
+        if (state != 2 && (pending == null || pending.state != 2) && !this.notes.isEmpty ())
+            this.setNoteData (col, row, -1, 0);
+    }
+
+
+    private void setPending (final int step, final int row, final int state)
+    {
+        // Re-insert to keep the edits ordered by time
+        final Integer index = Integer.valueOf (this.getIndex (step, row));
+        this.pendingSteps.remove (index);
+        this.pendingSteps.put (index, new PendingStep (state, System.nanoTime ()));
+        this.updateStepWithData (step, row);
+        this.changes.changed ();
+
+        if (!this.isRollbackScheduled)
+            this.scheduleRollback (PENDING_TIMEOUT);
+    }
+
+
+    private PendingStep getPendingStep (final int step, final int row)
+    {
+        return this.pendingSteps.isEmpty () ? null : this.pendingSteps.get (Integer.valueOf (this.getIndex (step, row)));
+    }
+
+
+    private void scheduleRollback (final long delay)
+    {
+        this.isRollbackScheduled = true;
+        this.host.scheduleTask (this::rollbackPending, delay / 1000000L + 1);
+    }
+
+
+    /**
+     * Roll back the pending edits which were not confirmed by Bitwig in time. Since the edits are
+     * ordered by time, only the expired ones are checked.
+     */
+    private void rollbackPending ()
+    {
+        this.isRollbackScheduled = false;
+        final long now = System.nanoTime ();
+        final Iterator<Map.Entry<Integer, PendingStep>> iterator = this.pendingSteps.entrySet ().iterator ();
+        while (iterator.hasNext ())
+        {
+            final Map.Entry<Integer, PendingStep> entry = iterator.next ();
+            final long age = now - entry.getValue ().time;
+            if (age < PENDING_TIMEOUT)
+            {
+                this.scheduleRollback (PENDING_TIMEOUT - age);
+                return;
+            }
+            iterator.remove ();
+            this.numRolledBack++;
+            final int index = entry.getKey ().intValue ();
+            this.updateStepWithData (index % this.numSteps, index / this.numSteps);
+            this.changes.changed ();
+        }
+    }
+
+
+    /**
+     * Update the steps and rows which contain data after a step or its pending edit changed.
+     * Pending edits are applied as well.
+     *
+     * @param step The step
+     * @param row The row
+     */
+    private void updateStepWithData (final int step, final int row)
+    {
+        final PendingStep pending = this.getPendingStep (step, row);
+        final boolean hasData = pending == null ? this.noteStarts[row].get (step) || this.noteContinues[row].get (step) : pending.state > 0;
+        final BitSet steps = this.stepsWithData[row];
+        steps.set (step, hasData);
+        this.rowsWithData.set (row, !steps.isEmpty ());
+    }
+
+
+    private void setNoteData (final int step, final int row, final int velocity, final double duration)
+    {
+        final Integer index = Integer.valueOf (this.getIndex (step, row));
+        if (velocity < 0)
+            this.notes.remove (index);
+        else
+            this.notes.put (index, new NoteData (Math.min (velocity, 127), duration));
+    }
+
+
+    /**
+     * Forget the velocities and lengths of all notes as well as the pending edits, e.g. if the
+     * visible page of the clip changes.
+     */
+    private void clearNoteTable ()
+    {
+        this.notes.clear ();
+        this.pendingSteps.clear ();
+
+        for (int row = 0; row < this.numRows; row++)
+        {
+            final BitSet steps = this.stepsWithData[row];
+            steps.clear ();
+            steps.or (this.noteStarts[row]);
+            steps.or (this.noteContinues[row]);
+            this.rowsWithData.set (row, !steps.isEmpty ());
+        }
+    }
+
+
+    private int getIndex (final int step, final int row)
+    {
+        return row * this.numSteps + step;
+    }
+
+
+    /**
+     * An edit of a step which is not yet confirmed by Bitwig.
+     */
+    private static class PendingStep
+    {
+        final int  state;
+        final long time;
+        boolean    isDisplayed;
+
+
+        PendingStep (final int state, final long time)
+        {
+            this.state = state;
+            this.time = time;
+        }
+    }
+
+
+    /**
+     * The velocity and duration of a note which was set by us.
+     */
+    private static class NoteData
+    {
+        final int    velocity;
+        final double duration;
+
+
+        NoteData (final int velocity, final double duration)
+        {
+            this.velocity = velocity;
+            this.duration = duration;
+        }
     }
 }
\ No newline at end of file
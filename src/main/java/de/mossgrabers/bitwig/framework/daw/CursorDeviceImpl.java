@@ -6,11 +6,13 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.ChannelImpl;
 import de.mossgrabers.bitwig.framework.daw.data.DrumPadImpl;
-import de.mossgrabers.bitwig.framework.daw.data.ParameterImpl;
+import de.mossgrabers.bitwig.framework.daw.data.RemoteControlImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCounter;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ParameterPageCache;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDrumPad;
 import de.mossgrabers.framework.daw.data.IParameter;
@@ -36,12 +38,16 @@ import com.bitwig.extension.controller.api.SettableIntegerValue;
  */
 public class CursorDeviceImpl implements ICursorDevice
 {
+    /** Time to wait for all values of a device or page change in milliseconds. */
+    private static final int         CONFIRMATION_DELAY = 50;
+
     private IHost                    host;
     private PinnableCursorDevice     cursorDevice;
     private DeviceBank               siblings;
     private CursorRemoteControlsPage remoteControls;
     private CursorDeviceLayer        cursorDeviceLayer;
     private IValueChanger            valueChanger;
+    private final ChangeCounter      changes            = new ChangeCounter ();
 
     private int                      numParams;
     private int                      numDevicesInBank;
@@ -49,7 +55,10 @@ public class CursorDeviceImpl implements ICursorDevice
     private int                      numDrumPadLayers;
 
     private String []                parameterPageNames = new String [0];
-    private IParameter []            fxparams;
+    private RemoteControlImpl []     fxparams;
+    private ParameterPageCache       pageCache;
+    private int                      confirmationID;
+    private int                      snapshotID;
     private DeviceLayerBank          layerBank;
     private IChannel []              deviceLayers;
     private IDrumPad []              drumPadLayers;
@@ -81,35 +90,37 @@ public class CursorDeviceImpl implements ICursorDevice
         this.numDeviceLayers = numDeviceLayers >= 0 ? numDeviceLayers : 8;
         this.numDrumPadLayers = numDrumPadLayers >= 0 ? numDrumPadLayers : 16;
 
-        this.cursorDevice.exists ().markInterested ();
-        this.cursorDevice.isEnabled ().markInterested ();
-        this.cursorDevice.name ().markInterested ();
-        this.cursorDevice.isPlugin ().markInterested ();
-        this.cursorDevice.position ().markInterested ();
-        this.cursorDevice.hasPrevious ().markInterested ();
-        this.cursorDevice.hasNext ().markInterested ();
-        this.cursorDevice.isExpanded ().markInterested ();
-        this.cursorDevice.isRemoteControlsSectionVisible ().markInterested ();
-        this.cursorDevice.isWindowOpen ().markInterested ();
-        this.cursorDevice.isNested ().markInterested ();
-        this.cursorDevice.hasDrumPads ().markInterested ();
-        this.cursorDevice.hasLayers ().markInterested ();
-        this.cursorDevice.hasSlots ().markInterested ();
-        this.cursorDevice.isPinned ().markInterested ();
+        this.cursorDevice.exists ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.isEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.name ().addValueObserver (value -> this.handleDeviceChange ());
+        this.cursorDevice.isPlugin ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.position ().addValueObserver (value -> this.handleDeviceChange ());
+        this.cursorDevice.channel ().name ().addValueObserver (value -> this.handleDeviceChange ());
+        this.cursorDevice.hasPrevious ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.hasNext ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.isExpanded ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.isRemoteControlsSectionVisible ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.isWindowOpen ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.isNested ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.hasDrumPads ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.hasLayers ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.hasSlots ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDevice.isPinned ().addValueObserver (value -> this.changes.changed ());
 
         if (this.numParams > 0)
         {
             this.remoteControls = this.cursorDevice.createCursorRemoteControlsPage (this.numParams);
-            this.remoteControls.hasPrevious ().markInterested ();
-            this.remoteControls.hasNext ().markInterested ();
-            this.remoteControls.selectedPageIndex ().markInterested ();
+            this.remoteControls.hasPrevious ().addValueObserver (value -> this.changes.changed ());
+            this.remoteControls.hasNext ().addValueObserver (value -> this.changes.changed ());
+            this.remoteControls.selectedPageIndex ().addValueObserver (this::handleSelectedPage);
             this.remoteControls.pageNames ().addValueObserver (this::handlePageNames);
 
-            this.fxparams = new IParameter [this.numParams];
+            this.pageCache = new ParameterPageCache (this.numParams);
+            this.fxparams = new RemoteControlImpl [this.numParams];
             for (int i = 0; i < this.numParams; i++)
             {
                 final RemoteControl p = this.getParameter (i);
-                this.fxparams[i] = new ParameterImpl (valueChanger, p, valueChanger.getUpperBound ());
+                this.fxparams[i] = new RemoteControlImpl (valueChanger, p, valueChanger.getUpperBound (), i, this.pageCache);
             }
         }
 
@@ -120,14 +131,14 @@ public class CursorDeviceImpl implements ICursorDevice
             for (int i = 0; i < this.numDevicesInBank; i++)
             {
                 final Device device = this.siblings.getDevice (i);
-                device.exists ().markInterested ();
-                device.name ().markInterested ();
+                device.exists ().addValueObserver (value -> this.changes.changed ());
+                device.name ().addValueObserver (value -> this.changes.changed ());
             }
         }
 
         this.cursorDeviceLayer = this.cursorDevice.createCursorLayer ();
-        this.cursorDeviceLayer.hasPrevious ().markInterested ();
-        this.cursorDeviceLayer.hasNext ().markInterested ();
+        this.cursorDeviceLayer.hasPrevious ().addValueObserver (value -> this.changes.changed ());
+        this.cursorDeviceLayer.hasNext ().addValueObserver (value -> this.changes.changed ());
 
         // Monitor the layers of a container device (if any)
         if (this.numDeviceLayers > 0)
@@ -139,7 +150,8 @@ public class CursorDeviceImpl implements ICursorDevice
             {
                 final Channel layer = this.layerBank.getItemAt (i);
                 this.deviceLayers[i] = new ChannelImpl (layer, valueChanger, i, numSends);
-                this.deviceBanks[i] = layer.createDeviceBank (this.numDevicesInBank);
+                // Only the first device is needed to enter the layer
+                this.deviceBanks[i] = layer.createDeviceBank (1);
 
                 final int index = i;
                 layer.addIsSelectedInEditorObserver (this.deviceLayers[index]::setSelected);
@@ -156,7 +168,8 @@ public class CursorDeviceImpl implements ICursorDevice
             {
                 final DrumPad layer = this.drumPadBank.getItemAt (i);
                 this.drumPadLayers[i] = new DrumPadImpl (layer, valueChanger, i, numSends);
-                this.drumPadBanks[i] = layer.createDeviceBank (this.numDevicesInBank);
+                // Only the first device is needed to enter the drum pad
+                this.drumPadBanks[i] = layer.createDeviceBank (1);
 
                 final int index = i;
                 layer.addIsSelectedInEditorObserver (this.drumPadLayers[index]::setSelected);
@@ -174,6 +187,7 @@ public class CursorDeviceImpl implements ICursorDevice
         this.cursorDevice.isPlugin ().setIsSubscribed (enable);
         this.cursorDevice.position ().setIsSubscribed (enable);
         this.cursorDevice.name ().setIsSubscribed (enable);
+        this.cursorDevice.channel ().name ().setIsSubscribed (enable);
         this.cursorDevice.hasPrevious ().setIsSubscribed (enable);
         this.cursorDevice.hasNext ().setIsSubscribed (enable);
         this.cursorDevice.isExpanded ().setIsSubscribed (enable);
@@ -206,6 +220,14 @@ public class CursorDeviceImpl implements ICursorDevice
         this.cursorDeviceLayer.hasPrevious ().setIsSubscribed (enable);
         this.cursorDeviceLayer.hasNext ().setIsSubscribed (enable);
 
+        this.enableLayerObservers (enable);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableLayerObservers (final boolean enable)
+    {
         for (int i = 0; i < this.numDeviceLayers; i++)
             this.deviceLayers[i].enableObservers (enable);
         for (int i = 0; i < this.numDrumPadLayers; i++)
@@ -213,6 +235,23 @@ public class CursorDeviceImpl implements ICursorDevice
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        // Include the versions of the parameters and layers, the sum increases with each change as
+        // well
+        int version = this.changes.getVersion ();
+        for (int i = 0; i < this.numParams; i++)
+            version += this.fxparams[i].getVersion ();
+        for (int i = 0; i < this.numDeviceLayers; i++)
+            version += this.deviceLayers[i].getVersion ();
+        for (int i = 0; i < this.numDrumPadLayers; i++)
+            version += this.drumPadLayers[i].getVersion ();
+        return version;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void browseToReplaceDevice ()
@@ -413,7 +452,7 @@ public class CursorDeviceImpl implements ICursorDevice
     @Override
     public void changeParameter (final int index, final int control)
     {
-        this.getParameter (index).inc (Double.valueOf (this.valueChanger.calcKnobSpeed (control)), Integer.valueOf (this.valueChanger.getUpperBound ()));
+        this.fxparams[index].changeValue (control);
     }
 
 
@@ -421,7 +460,7 @@ public class CursorDeviceImpl implements ICursorDevice
     @Override
     public void setParameter (final int index, final int value)
     {
-        this.getParameter (index).set (Integer.valueOf (value), Integer.valueOf (this.valueChanger.getUpperBound ()));
+        this.fxparams[index].setValue (value);
     }
 
 
@@ -429,7 +468,7 @@ public class CursorDeviceImpl implements ICursorDevice
     @Override
     public void resetParameter (final int index)
     {
-        this.getParameter (index).reset ();
+        this.fxparams[index].resetValue ();
     }
 
 
@@ -453,6 +492,8 @@ public class CursorDeviceImpl implements ICursorDevice
     @Override
     public void previousParameterPage ()
     {
+        final int page = this.getSelectedParameterPage ();
+        this.selectCachedPage (page > 0 ? page - 1 : this.parameterPageNames.length - 1, true);
         this.remoteControls.selectPreviousPage (true);
     }
 
@@ -461,6 +502,8 @@ public class CursorDeviceImpl implements ICursorDevice
     @Override
     public void nextParameterPage ()
     {
+        final int page = this.getSelectedParameterPage ();
+        this.selectCachedPage (page < this.parameterPageNames.length - 1 ? page + 1 : 0, true);
         this.remoteControls.selectNextPage (true);
     }
 
@@ -510,6 +553,7 @@ public class CursorDeviceImpl implements ICursorDevice
     @Override
     public void setSelectedParameterPage (final int index)
     {
+        this.selectCachedPage (index, true);
         this.remoteControls.selectedPageIndex ().set (index);
     }
 
@@ -519,7 +563,9 @@ public class CursorDeviceImpl implements ICursorDevice
     public void setSelectedParameterPageInBank (final int index)
     {
         final SettableIntegerValue pageIndex = this.remoteControls.selectedPageIndex ();
-        pageIndex.set (pageIndex.get () / 8 * 8 + index);
+        final int page = pageIndex.get () / 8 * 8 + index;
+        this.selectCachedPage (page, true);
+        pageIndex.set (page);
     }
 
 
@@ -528,7 +574,9 @@ public class CursorDeviceImpl implements ICursorDevice
     public void previousParameterPageBank ()
     {
         final SettableIntegerValue index = this.remoteControls.selectedPageIndex ();
-        index.set (Math.max (index.get () - 8, 0));
+        final int page = Math.max (index.get () - 8, 0);
+        this.selectCachedPage (page, true);
+        index.set (page);
     }
 
 
@@ -537,7 +585,9 @@ public class CursorDeviceImpl implements ICursorDevice
     public void nextParameterPageBank ()
     {
         final SettableIntegerValue index = this.remoteControls.selectedPageIndex ();
-        index.set (Math.min (index.get () + 8, this.parameterPageNames.length - 1));
+        final int page = Math.min (index.get () + 8, this.parameterPageNames.length - 1);
+        this.selectCachedPage (page, true);
+        index.set (page);
     }
 
 
@@ -1620,9 +1670,102 @@ public class CursorDeviceImpl implements ICursorDevice
     }
 
 
+    private void handleSelectedPage (final int index)
+    {
+        this.changes.changed ();
+        this.selectCachedPage (index, false);
+    }
+
+
+    private void handleDeviceChange ()
+    {
+        this.changes.changed ();
+        if (this.remoteControls != null)
+            this.selectCachedPage (this.remoteControls.selectedPageIndex ().get (), false);
+    }
+
+
+    /**
+     * Show the page of the parameter cache which belongs to the current device and the given page.
+     * If the page was cached before, its parameters are shown immediately until the DAW confirmed
+     * the page. The device is identified by its track, its position and its name since there is no
+     * unique ID available. Until the confirmation no data is stored in the cache.
+     *
+     * @param pageIndex The index of the page
+     * @param storeCurrent Stores the data of the current page before switching, ignored if the DAW
+     *            did not yet confirm the current page
+     */
+    private void selectCachedPage (final int pageIndex, final boolean storeCurrent)
+    {
+        if (pageIndex < 0)
+            return;
+
+        if (storeCurrent && this.pageCache.isConfirmed ())
+        {
+            for (final RemoteControlImpl param: this.fxparams)
+                param.storeSnapshot ();
+        }
+        this.pageCache.unconfirm ();
+
+        if (this.pageCache.show (this.getDeviceKey (), pageIndex))
+        {
+            for (final RemoteControlImpl param: this.fxparams)
+                param.showSnapshot ();
+
+            // Show the data of the DAW if the page is not confirmed in time
+            final int id = ++this.snapshotID;
+            this.host.scheduleTask ( () -> {
+                if (id == this.snapshotID)
+                    this.clearSnapshots ();
+            }, RemoteControlImpl.SNAPSHOT_TIMEOUT);
+        }
+
+        // Name, position and track of a device change are sent separately, wait for all of them
+        final int id = ++this.confirmationID;
+        this.host.scheduleTask ( () -> {
+            if (id == this.confirmationID)
+                this.confirmPage ();
+        }, CONFIRMATION_DELAY);
+    }
+
+
+    /**
+     * The device and page which the DAW reports are stable. From now on the data of the DAW is
+     * stored in the cache.
+     */
+    private void confirmPage ()
+    {
+        final int pageIndex = this.remoteControls.selectedPageIndex ().get ();
+        if (pageIndex < 0)
+            return;
+
+        // Stop showing the cached data only if the DAW has switched to the shown page
+        final boolean wasShown = this.pageCache.confirm (this.getDeviceKey (), pageIndex);
+        if (wasShown)
+            this.clearSnapshots ();
+        for (final RemoteControlImpl param: this.fxparams)
+            param.storeSnapshot ();
+    }
+
+
+    private void clearSnapshots ()
+    {
+        this.snapshotID++;
+        for (final RemoteControlImpl param: this.fxparams)
+            param.clearSnapshot ();
+    }
+
+
+    private String getDeviceKey ()
+    {
+        return this.cursorDevice.channel ().name ().get () + "/" + this.cursorDevice.position ().get () + "/" + this.cursorDevice.name ().get ();
+    }
+
+
     private void handlePageNames (final String [] pageNames)
     {
         this.parameterPageNames = pageNames;
+        this.changes.changed ();
     }
 
 
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.AbstractModel;
 import de.mossgrabers.framework.daw.ICursorClip;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ObserverFacet;
 import de.mossgrabers.framework.scale.Scales;
 
 import com.bitwig.extension.controller.api.Application;
@@ -50,8 +51,10 @@ public class ModelImpl extends AbstractModel
      * @param numDevicesInBank The number of devices to monitor
      * @param numDeviceLayers The number of device layers to monitor
      * @param numDrumPadLayers The number of drum pad layers to monitor
+     * @param hasDrumDevice64 Creates the additional cursor device with 64 drum pads, which is only
+     *            required by the 64 pad drum views
      */
-    public ModelImpl (final ControllerHost controllerHost, final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final int numTracks, final int numScenes, final int numSends, final int numFilterColumnEntries, final int numResults, final boolean hasFlatTrackList, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers)
+    public ModelImpl (final ControllerHost controllerHost, final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final int numTracks, final int numScenes, final int numSends, final int numFilterColumnEntries, final int numResults, final boolean hasFlatTrackList, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers, final boolean hasDrumDevice64)
     {
         super (colorManager, valueChanger, scales, numTracks, numScenes, numSends, numFilterColumnEntries, numResults, hasFlatTrackList, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
 
@@ -69,7 +72,7 @@ public class ModelImpl extends AbstractModel
         this.masterTrack = new MasterTrackImpl (master, valueChanger);
 
         this.cursorTrack = controllerHost.createCursorTrack ("MyCursorTrackID", "The Cursor Track", 0, 0, true);
-        this.cursorTrack.isPinned ().markInterested ();
+        this.cursorTrack.isPinned ().addValueObserver (value -> this.changes.changed ());
 
         this.trackBank = new TrackBankImpl (controllerHost, valueChanger, this.cursorTrack, this.numTracks, this.numScenes, this.numSends, this.hasFlatTrackList);
         this.effectTrackBank = new EffectTrackBankImpl (controllerHost, valueChanger, this.cursorTrack, this.numTracks, this.numScenes, this.trackBank);
@@ -79,23 +82,35 @@ public class ModelImpl extends AbstractModel
         PinnableCursorDevice cd = this.cursorTrack.createCursorDevice ("CURSOR_DEVICE", "Cursor device", this.numSends, CursorDeviceFollowMode.FOLLOW_SELECTION);
         this.cursorDevice = new CursorDeviceImpl (this.host, cd, valueChanger, this.numSends, this.numParams, this.numDevicesInBank, this.numDeviceLayers, this.numDrumPadLayers);
         this.cursorDevice.setDrumPadIndication (false);
-        if (this.numDrumPadLayers > 0)
+        if (hasDrumDevice64 && this.numDrumPadLayers > 0)
         {
             cd = this.cursorTrack.createCursorDevice ("64_DRUM_PADS", "64 Drum Pads", 0, CursorDeviceFollowMode.FIRST_INSTRUMENT);
             this.drumDevice64 = new CursorDeviceImpl (this.host, cd, valueChanger, 0, 0, -1, 64, 64);
             this.drumDevice64.setDrumPadIndication (false);
         }
         if (this.numResults > 0)
-            this.browser = new BrowserImpl (controllerHost.createPopupBrowser (), this.cursorTrack, this.cursorDevice, this.numFilterColumnEntries, this.numResults);
+            this.browser = new BrowserImpl (this.host, controllerHost.createPopupBrowser (), this.cursorTrack, this.cursorDevice, this.numFilterColumnEntries, this.numResults);
+
+        this.trackMetadataCache = new TrackMetadataCacheImpl (controllerHost, this.host);
 
         this.masterTrackEqualsValue = cd.channel ().createEqualsValue (master);
-        this.masterTrackEqualsValue.markInterested ();
+        this.masterTrackEqualsValue.addValueObserver (value -> this.changes.changed ());
 
         this.currentTrackBank = this.trackBank;
 
+        // Only observed on demand
+        this.observerSubscriptions.register (ObserverFacet.DEVICE_LAYERS, this.cursorDevice::enableLayerObservers);
+        if (this.drumDevice64 != null)
+            this.observerSubscriptions.register (ObserverFacet.DRUM_PADS_64, this.drumDevice64);
+        if (this.browser != null)
+            this.observerSubscriptions.register (ObserverFacet.BROWSER, this.browser);
+        this.observerSubscriptions.register (ObserverFacet.TRACK_METADATA, this.trackMetadataCache);
+
         // Make sure there is at least 1 cursor clip for quantization, even if there are no
         // sequencers
         this.getCursorClip ();
+
+        this.host.println ("Model: " + this.numTracks + " tracks, " + this.numScenes + " scenes, " + this.numSends + " sends, " + this.numParams + " parameters, " + this.numDevicesInBank + " devices, " + this.numDeviceLayers + " layers, " + this.numDrumPadLayers + " drum pads" + (this.drumDevice64 == null ? "" : ", 64 drum pads device") + (this.browser == null ? "" : ", browser with " + this.numResults + " results"));
     }
 
 
@@ -109,9 +124,9 @@ public class ModelImpl extends AbstractModel
 
     /** {@inheritDoc} */
     @Override
-    public ICursorClip getCursorClip (final int cols, final int rows)
+    protected ICursorClip createCursorClip (final int cols, final int rows)
     {
-        return this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.controllerHost, this.valueChanger, cols, rows));
+        return new CursorClipImpl (this.controllerHost, this.valueChanger, cols, rows);
     }
 
 
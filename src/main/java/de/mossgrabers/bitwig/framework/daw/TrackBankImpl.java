@@ -38,6 +38,7 @@ public class TrackBankImpl extends AbstractTrackBankImpl implements ITrackBank
         super (valueChanger, numTracks, numScenes, numSends);
 
         this.cursorTrack = cursorTrack;
+        this.isFlat = hasFlatTrackList;
 
         if (hasFlatTrackList)
         {
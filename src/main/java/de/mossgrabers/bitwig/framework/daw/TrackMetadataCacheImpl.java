@@ -0,0 +1,215 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import de.mossgrabers.framework.daw.AbstractTrackMetadataCache;
+import de.mossgrabers.framework.daw.IHost;
+
+import com.bitwig.extension.controller.api.ClipLauncherSlotBank;
+import com.bitwig.extension.controller.api.ControllerHost;
+import com.bitwig.extension.controller.api.SceneBank;
+import com.bitwig.extension.controller.api.SettableColorValue;
+import com.bitwig.extension.controller.api.Track;
+import com.bitwig.extension.controller.api.TrackBank;
+
+
+/**
+ * Fills the track metadata cache with a second, wide track bank of the flat track list. Only the
+ * name, color, existence and the clip slot states are observed. When subscribed, the bank is moved
+ * once over the whole project in the background, one window at a time. Afterwards, the bank stays
+ * at the last window and a new pass is only started if the number of tracks changes or a name or
+ * slot state of the window changes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TrackMetadataCacheImpl extends AbstractTrackMetadataCache
+{
+    private static final int WINDOW_TRACKS = 32;
+    private static final int WINDOW_SCENES = 16;
+    /** The time to wait for the data of a window in milliseconds. */
+    private static final int CRAWL_DELAY   = 200;
+
+    private final IHost      host;
+    private final TrackBank  trackBank;
+    private final SceneBank  sceneBank;
+    private boolean          isEnabled;
+    private boolean          isCrawling;
+    private int              windowTrack;
+    private int              windowScene;
+    private int              passWindows;
+
+
+    /**
+     * Constructor.
+     *
+     * @param controllerHost The controller host
+     * @param host The host
+     */
+    public TrackMetadataCacheImpl (final ControllerHost controllerHost, final IHost host)
+    {
+        super (WINDOW_TRACKS, WINDOW_SCENES);
+
+        this.host = host;
+        this.trackBank = controllerHost.createMainTrackBank (WINDOW_TRACKS, 0, WINDOW_SCENES);
+        this.sceneBank = this.trackBank.sceneBank ();
+
+        this.trackBank.channelCount ().addValueObserver (value -> this.handleChange ());
+        this.trackBank.scrollPosition ().markInterested ();
+        this.sceneBank.scrollPosition ().markInterested ();
+        this.sceneBank.itemCount ().markInterested ();
+        for (int i = 0; i < WINDOW_TRACKS; i++)
+        {
+            final Track track = this.trackBank.getItemAt (i);
+            track.exists ().markInterested ();
+            track.name ().addValueObserver (value -> this.handleChange ());
+            track.color ().markInterested ();
+            final ClipLauncherSlotBank slotBank = track.clipLauncherSlotBank ();
+            for (int s = 0; s < WINDOW_SCENES; s++)
+                slotBank.getItemAt (s).hasContent ().addValueObserver (value -> this.handleChange ());
+        }
+
+        this.enableObservers (false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        this.trackBank.channelCount ().setIsSubscribed (enable);
+        this.trackBank.scrollPosition ().setIsSubscribed (enable);
+        this.sceneBank.scrollPosition ().setIsSubscribed (enable);
+        this.sceneBank.itemCount ().setIsSubscribed (enable);
+        for (int i = 0; i < WINDOW_TRACKS; i++)
+        {
+            final Track track = this.trackBank.getItemAt (i);
+            track.exists ().setIsSubscribed (enable);
+            track.name ().setIsSubscribed (enable);
+            track.color ().setIsSubscribed (enable);
+            final ClipLauncherSlotBank slotBank = track.clipLauncherSlotBank ();
+            for (int s = 0; s < WINDOW_SCENES; s++)
+                slotBank.getItemAt (s).hasContent ().setIsSubscribed (enable);
+        }
+
+        this.isEnabled = enable;
+        if (enable)
+            this.startCrawling ();
+    }
+
+
+    /**
+     * A value of the window or the number of tracks has changed. Starts a new pass if the bank is
+     * not moving, since the changes while moving are caused by the scrolling.
+     */
+    private void handleChange ()
+    {
+        if (this.isEnabled)
+            this.startCrawling ();
+    }
+
+
+    /**
+     * Start a pass over the whole project, beginning with the current window.
+     */
+    private void startCrawling ()
+    {
+        if (this.isCrawling)
+            return;
+        this.isCrawling = true;
+        this.passWindows = 0;
+        this.host.scheduleTask (this::crawl, CRAWL_DELAY);
+    }
+
+
+    /**
+     * Store the data of the current window and move on to the next one. Stops after all windows
+     * have been stored.
+     */
+    private void crawl ()
+    {
+        if (!this.isEnabled)
+        {
+            this.isCrawling = false;
+            return;
+        }
+
+        this.storeWindow ();
+
+        // All windows stored? Keep the bank where it is
+        this.passWindows++;
+        if (this.passWindows >= this.getNumberOfWindows ())
+        {
+            this.isCrawling = false;
+            return;
+        }
+
+        this.moveWindow ();
+        this.host.scheduleTask (this::crawl, CRAWL_DELAY);
+    }
+
+
+    /**
+     * Get the number of windows which are required to cover the whole project.
+     *
+     * @return The number of windows
+     */
+    private int getNumberOfWindows ()
+    {
+        final int tracks = Math.min (this.trackCount, MAX_TRACKS);
+        final int scenes = this.sceneBank.itemCount ().get ();
+        return Math.max (1, (tracks + WINDOW_TRACKS - 1) / WINDOW_TRACKS) * Math.max (1, (scenes + WINDOW_SCENES - 1) / WINDOW_SCENES);
+    }
+
+
+    /**
+     * Copy the data of the tracks and slots of the wide bank into the cache.
+     */
+    private void storeWindow ()
+    {
+        this.setTrackCount (this.trackBank.channelCount ().get ());
+
+        final int trackPosition = this.trackBank.scrollPosition ().get ();
+        final int scenePosition = this.sceneBank.scrollPosition ().get ();
+        for (int i = 0; i < WINDOW_TRACKS; i++)
+        {
+            final Track track = this.trackBank.getItemAt (i);
+            if (!track.exists ().get ())
+                continue;
+
+            final int position = trackPosition + i;
+            final SettableColorValue color = track.color ();
+            this.setTrack (position, track.name ().get (), new double []
+            {
+                color.red (),
+                color.green (),
+                color.blue ()
+            });
+
+            final ClipLauncherSlotBank slotBank = track.clipLauncherSlotBank ();
+            for (int s = 0; s < WINDOW_SCENES; s++)
+                this.setSlotContent (position, scenePosition + s, slotBank.getItemAt (s).hasContent ().get ());
+        }
+    }
+
+
+    /**
+     * Scroll the wide bank to the next window. Walks all scenes of a block of tracks before moving
+     * to the next block, continues with the beginning after the last one.
+     */
+    private void moveWindow ()
+    {
+        this.windowScene += WINDOW_SCENES;
+        if (this.windowScene >= this.sceneBank.itemCount ().get ())
+        {
+            this.windowScene = 0;
+            this.windowTrack += WINDOW_TRACKS;
+            if (this.windowTrack >= Math.min (this.trackCount, MAX_TRACKS))
+                this.windowTrack = 0;
+        }
+
+        this.trackBank.scrollPosition ().set (this.windowTrack);
+        this.sceneBank.scrollPosition ().set (this.windowScene);
+    }
+}
@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCounter;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -33,9 +34,11 @@ public class TransportImpl implements ITransport
     private ControllerHost      host;
     private IValueChanger       valueChanger;
     private Transport           transport;
+    private final ChangeCounter changes                = new ChangeCounter ();
 
     private int                 crossfade              = 0;
     private double              tempo;
+    private double              position;
     private int                 metronomeValue;
 
 
@@ -51,32 +54,32 @@ public class TransportImpl implements ITransport
         this.valueChanger = valueChanger;
         this.transport = host.createTransport ();
 
-        this.transport.isPlaying ().markInterested ();
-        this.transport.isArrangerRecordEnabled ().markInterested ();
-        this.transport.isArrangerOverdubEnabled ().markInterested ();
-        this.transport.isClipLauncherAutomationWriteEnabled ().markInterested ();
-        this.transport.isClipLauncherOverdubEnabled ().markInterested ();
-        this.transport.isArrangerAutomationWriteEnabled ().markInterested ();
-        this.transport.automationWriteMode ().markInterested ();
-        this.transport.isArrangerLoopEnabled ().markInterested ();
-        this.transport.isPunchInEnabled ().markInterested ();
-        this.transport.isPunchOutEnabled ().markInterested ();
-        this.transport.isMetronomeEnabled ().markInterested ();
-        this.transport.isMetronomeTickPlaybackEnabled ().markInterested ();
-        this.transport.isMetronomeAudibleDuringPreRoll ().markInterested ();
-        this.transport.preRoll ().markInterested ();
+        this.transport.isPlaying ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isArrangerRecordEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isArrangerOverdubEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isClipLauncherAutomationWriteEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isClipLauncherOverdubEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isArrangerAutomationWriteEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.transport.automationWriteMode ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isArrangerLoopEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isPunchInEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isPunchOutEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isMetronomeEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isMetronomeTickPlaybackEnabled ().addValueObserver (value -> this.changes.changed ());
+        this.transport.isMetronomeAudibleDuringPreRoll ().addValueObserver (value -> this.changes.changed ());
+        this.transport.preRoll ().addValueObserver (value -> this.changes.changed ());
         this.transport.tempo ().value ().addRawValueObserver (this::handleTempo);
-        this.transport.getPosition ().markInterested ();
+        this.transport.getPosition ().addValueObserver (this::handlePosition);
         this.transport.crossfade ().value ().addValueObserver (valueChanger.getUpperBound (), this::handleCrossfade);
 
         final SettableRangedValue metronomeVolume = this.transport.metronomeVolume ();
-        metronomeVolume.markInterested ();
-        metronomeVolume.displayedValue ().markInterested ();
+        metronomeVolume.addValueObserver (value -> this.changes.changed ());
+        metronomeVolume.displayedValue ().addValueObserver (value -> this.changes.changed ());
         metronomeVolume.addValueObserver (valueChanger.getUpperBound (), this::handleMetronomeValue);
 
         final TimeSignatureValue ts = this.transport.timeSignature ();
-        ts.numerator ().markInterested ();
-        ts.denominator ().markInterested ();
+        ts.numerator ().addValueObserver (value -> this.changes.changed ());
+        ts.denominator ().addValueObserver (value -> this.changes.changed ());
     }
 
 
@@ -405,6 +408,14 @@ public class TransportImpl implements ITransport
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public double getPosition ()
+    {
+        return this.position;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setPosition (final double beats)
@@ -648,17 +659,27 @@ public class TransportImpl implements ITransport
     private void handleTempo (final double value)
     {
         this.tempo = Math.min (TransportImpl.TEMPO_MAX, Math.max (TransportImpl.TEMPO_MIN, value));
+        this.changes.changed ();
+    }
+
+
+    private void handlePosition (final double value)
+    {
+        this.position = value;
+        this.changes.changed ();
     }
 
 
     private void handleCrossfade (final int value)
     {
         this.crossfade = value;
+        this.changes.changed ();
     }
 
 
     private void handleMetronomeValue (final int value)
     {
         this.metronomeValue = value;
+        this.changes.changed ();
     }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ package de.mossgrabers.bitwig.framework.daw.data;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 
+import de.mossgrabers.framework.utils.HitCounter;
+
 import com.bitwig.extension.controller.api.BrowserFilterColumn;
 import com.bitwig.extension.controller.api.BrowserItemBank;
 import com.bitwig.extension.controller.api.CursorBrowserFilterItem;
@@ -25,6 +27,7 @@ public class BrowserColumnImpl implements IBrowserColumn
     private IBrowserColumnItem []     items;
     private BrowserItemBank<?>        itemBank;
     private CursorBrowserFilterItem   cursorResult;
+    private BrowserItemPrefetcher     prefetcher;
 
 
     /**
@@ -33,8 +36,11 @@ public class BrowserColumnImpl implements IBrowserColumn
      * @param column The column
      * @param index The index of the column
      * @param numFilterColumnEntries The number of entries in a filter column (bank page)
+     * @param prefetchSize The number of entries to prefetch
+     * @param statistics Counts the hits and misses of the entry cache
+     * @param filterListener Gets notified if the selected entry (the filter) has changed
      */
-    public BrowserColumnImpl (final BrowserFilterColumn column, final int index, final int numFilterColumnEntries)
+    public BrowserColumnImpl (final BrowserFilterColumn column, final int index, final int numFilterColumnEntries, final int prefetchSize, final HitCounter statistics, final Runnable filterListener)
     {
         this.index = index;
         this.column = column;
@@ -49,10 +55,11 @@ public class BrowserColumnImpl implements IBrowserColumn
         this.items = new IBrowserColumnItem [numFilterColumnEntries];
         for (int i = 0; i < numFilterColumnEntries; i++)
             this.items[i] = new BrowserColumnItemImpl (this.itemBank.getItemAt (i), i);
+        this.prefetcher = new BrowserItemPrefetcher (column, this.itemBank, this.items, prefetchSize, statistics);
 
         this.cursorResult = (CursorBrowserFilterItem) column.createCursorItem ();
         this.cursorResult.exists ().markInterested ();
-        this.cursorResult.name ().markInterested ();
+        this.cursorResult.name ().addValueObserver (name -> filterListener.run ());
     }
 
 
@@ -67,6 +74,7 @@ public class BrowserColumnImpl implements IBrowserColumn
 
         for (final IBrowserColumnItem item: this.items)
             item.enableObservers (enable);
+        this.prefetcher.enableObservers (enable);
 
         this.cursorResult.exists ().setIsSubscribed (enable);
         this.cursorResult.name ().setIsSubscribed (enable);
@@ -133,7 +141,7 @@ public class BrowserColumnImpl implements IBrowserColumn
     @Override
     public IBrowserColumnItem [] getItems ()
     {
-        return this.items;
+        return this.prefetcher.getItems ();
     }
 
 
@@ -166,6 +174,7 @@ public class BrowserColumnImpl implements IBrowserColumn
     public void selectPreviousItem ()
     {
         this.cursorResult.selectPrevious ();
+        this.prefetcher.moveCursor (-1);
     }
 
 
@@ -174,6 +183,7 @@ public class BrowserColumnImpl implements IBrowserColumn
     public void selectNextItem ()
     {
         this.cursorResult.selectNext ();
+        this.prefetcher.moveCursor (1);
     }
 
 
@@ -191,4 +201,13 @@ public class BrowserColumnImpl implements IBrowserColumn
     {
         this.itemBank.cursorIndex ().set (index);
     }
+
+
+    /**
+     * Clear the cached entries, e.g. if the hit counts changed since another filter was selected.
+     */
+    public void resetCache ()
+    {
+        this.prefetcher.reset ();
+    }
 }
@@ -0,0 +1,226 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw.data;
+
+import de.mossgrabers.framework.daw.BrowserItemCache;
+import de.mossgrabers.framework.daw.data.BrowserColumnItemData;
+import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
+import de.mossgrabers.framework.utils.HitCounter;
+
+import com.bitwig.extension.controller.api.BrowserColumn;
+import com.bitwig.extension.controller.api.BrowserFilterItem;
+import com.bitwig.extension.controller.api.BrowserItem;
+import com.bitwig.extension.controller.api.BrowserItemBank;
+
+
+/**
+ * Keeps the items of a browser column around the cursor in a cache. A second, larger bank is moved
+ * ahead of the cursor in the scroll direction and all items which are sent by the DAW are stored.
+ * While the cursor is moved and the DAW did not yet send the new page, the page of the cursor is
+ * drawn from the cache.
+ *
+ * The DAW does not send the scroll position and the names of the items in a defined order.
+ * Therefore, items are only stored while the scroll position of the prefetch bank is confirmed.
+ * Only the names and hit counts which arrive after the confirmation are stored. Values which arrived
+ * before are dropped since they might still belong to the previous position.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserItemPrefetcher
+{
+    /** Drop the moved cursor if the DAW did not confirm it after this time in milliseconds. */
+    private static final long              TARGET_TIMEOUT = 500;
+    /** The number of pages which are kept in the cache. */
+    private static final int               CACHED_PAGES   = 64;
+
+    private final BrowserItemBank<?>       bank;
+    private final BrowserItemBank<?>       prefetchBank;
+    private final int                      prefetchSize;
+    private final IBrowserColumnItem []    items;
+    private final BrowserColumnItemData [] cachedItems;
+    private final BrowserItemCache         cache;
+    private final HitCounter               statistics;
+    private int                            target         = -1;
+    private long                           targetTime;
+    private int                            position       = -1;
+    private int                            scrollRequest  = -1;
+    private long                           requestTime;
+
+
+    /**
+     * Constructor.
+     *
+     * @param column The browser column
+     * @param bank The bank which follows the cursor of the column
+     * @param items The items of the bank
+     * @param prefetchSize The number of items to prefetch
+     * @param statistics Counts the cursor moves for which the target was (not) cached
+     */
+    public BrowserItemPrefetcher (final BrowserColumn column, final BrowserItemBank<?> bank, final IBrowserColumnItem [] items, final int prefetchSize, final HitCounter statistics)
+    {
+        this.bank = bank;
+        this.items = items;
+        this.prefetchSize = prefetchSize;
+        this.statistics = statistics;
+        this.cache = new BrowserItemCache (CACHED_PAGES * items.length);
+
+        this.cachedItems = new BrowserColumnItemData [items.length];
+        for (int i = 0; i < items.length; i++)
+            this.cachedItems[i] = new BrowserColumnItemData (i);
+
+        this.bank.cursorIndex ().markInterested ();
+        this.bank.scrollPosition ().markInterested ();
+        this.bank.itemCount ().addValueObserver (count -> this.reset ());
+
+        this.prefetchBank = column.createItemBank (prefetchSize);
+        this.prefetchBank.scrollPosition ().addValueObserver (this::handlePosition);
+        for (int i = 0; i < prefetchSize; i++)
+        {
+            final int index = i;
+            final BrowserItem item = this.prefetchBank.getItemAt (i);
+            item.name ().addValueObserver (name -> {
+                if (this.isPositionConfirmed ())
+                    this.cache.storeName (this.position + index, name);
+            });
+            if (item instanceof BrowserFilterItem)
+            {
+                ((BrowserFilterItem) item).hitCount ().addValueObserver (count -> {
+                    if (this.isPositionConfirmed ())
+                        this.cache.storeHitCount (this.position + index, count);
+                });
+            }
+        }
+    }
+
+
+    /**
+     * Enable or disable the observers of the banks.
+     *
+     * @param enable True to enable
+     */
+    public void enableObservers (final boolean enable)
+    {
+        this.bank.cursorIndex ().setIsSubscribed (enable);
+        this.bank.itemCount ().setIsSubscribed (enable);
+        this.bank.scrollPosition ().setIsSubscribed (enable);
+
+        // The names of the items of the bank are subscribed by the items themselves
+        this.prefetchBank.scrollPosition ().setIsSubscribed (enable);
+        for (int i = 0; i < this.prefetchSize; i++)
+        {
+            final BrowserItem item = this.prefetchBank.getItemAt (i);
+            item.name ().setIsSubscribed (enable);
+            if (item instanceof BrowserFilterItem)
+                ((BrowserFilterItem) item).hitCount ().setIsSubscribed (enable);
+        }
+    }
+
+
+    /**
+     * Notify that the cursor was moved. Moves the prefetch bank ahead of the cursor if the new
+     * position comes close to its end.
+     *
+     * @param delta The number of items the cursor was moved, negative values for backwards
+     */
+    public void moveCursor (final int delta)
+    {
+        if (this.target < 0)
+        {
+            this.target = this.getCursorPosition ();
+            if (this.target < 0)
+                return;
+        }
+
+        final int count = this.bank.itemCount ().get ();
+        this.target = Math.max (0, Math.min (count - 1, this.target + delta));
+        this.targetTime = System.currentTimeMillis ();
+
+        if (this.cache.contains (this.target))
+            this.statistics.hit ();
+        else
+            this.statistics.miss ();
+
+        final int pageSize = this.items.length;
+        final int start = this.prefetchBank.scrollPosition ().get ();
+        final int end = start + this.prefetchSize;
+        if (delta > 0 && (this.target < start || this.target + pageSize >= end))
+            this.scrollPrefetchBank (this.target);
+        else if (delta < 0 && (this.target >= end || this.target - pageSize < start))
+            this.scrollPrefetchBank (Math.max (0, this.target - this.prefetchSize + 1));
+    }
+
+
+    /**
+     * Get the items of the page of the cursor. These are the items of the bank if the bank already
+     * contains the cursor, otherwise the items are filled from the cache.
+     *
+     * @return The items
+     */
+    public IBrowserColumnItem [] getItems ()
+    {
+        if (this.target >= 0 && (this.getCursorPosition () == this.target || System.currentTimeMillis () - this.targetTime > TARGET_TIMEOUT))
+            this.target = -1;
+        if (this.target < 0)
+            return this.items;
+
+        final int count = this.bank.itemCount ().get ();
+        final int pageStart = this.target - this.target % this.cachedItems.length;
+        for (int i = 0; i < this.cachedItems.length; i++)
+        {
+            final int position = pageStart + i;
+            final BrowserColumnItemData item = this.cachedItems[i];
+            item.setExists (position < count);
+            item.setSelected (position == this.target);
+            this.cache.lookup (position, item);
+        }
+        return this.cachedItems;
+    }
+
+
+    /**
+     * Clear the cache, e.g. if the content of the column has changed.
+     */
+    public void reset ()
+    {
+        this.cache.clear ();
+        this.target = -1;
+    }
+
+
+    private int getCursorPosition ()
+    {
+        final int index = this.bank.cursorIndex ().get ();
+        return index < 0 ? -1 : this.bank.scrollPosition ().get () + index;
+    }
+
+
+    private void scrollPrefetchBank (final int newPosition)
+    {
+        this.scrollRequest = newPosition;
+        this.requestTime = System.currentTimeMillis ();
+        this.prefetchBank.scrollPosition ().set (newPosition);
+    }
+
+
+    private void handlePosition (final int newPosition)
+    {
+        this.position = newPosition;
+        if (this.scrollRequest >= 0 && newPosition != this.scrollRequest)
+            return;
+        this.scrollRequest = -1;
+    }
+
+
+    /**
+     * Check if the DAW has confirmed the requested scroll position of the prefetch bank. If it does
+     * not confirm it in time (e.g. the position was limited), the reported position is used.
+     *
+     * @return True if the items can be stored
+     */
+    private boolean isPositionConfirmed ()
+    {
+        return this.position >= 0 && (this.scrollRequest < 0 || System.currentTimeMillis () - this.requestTime > TARGET_TIMEOUT);
+    }
+}
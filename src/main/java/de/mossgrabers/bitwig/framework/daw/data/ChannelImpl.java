@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCounter;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ISend;
@@ -24,6 +25,7 @@ public class ChannelImpl implements IChannel
 {
     protected IValueChanger valueChanger;
     protected Channel       channel;
+    protected ChangeCounter changes = new ChangeCounter ();
 
     private ISend []        sends;
     private int             index;
@@ -31,6 +33,7 @@ public class ChannelImpl implements IChannel
     private int             vu;
     private int             vuLeft;
     private int             vuRight;
+    private ChangeCounter   vuChanges = new ChangeCounter ();
     private IParameter      volumeParameter;
     private IParameter      panParameter;
 
@@ -52,12 +55,12 @@ public class ChannelImpl implements IChannel
         if (channel == null)
             return;
 
-        channel.exists ().markInterested ();
-        channel.name ().markInterested ();
-        channel.isActivated ().markInterested ();
-        channel.mute ().markInterested ();
-        channel.solo ().markInterested ();
-        channel.color ().markInterested ();
+        channel.exists ().addValueObserver (value -> this.changes.changed ());
+        channel.name ().addValueObserver (value -> this.changes.changed ());
+        channel.isActivated ().addValueObserver (value -> this.changes.changed ());
+        channel.mute ().addValueObserver (value -> this.changes.changed ());
+        channel.solo ().addValueObserver (value -> this.changes.changed ());
+        channel.color ().addValueObserver ( (red, green, blue) -> this.changes.changed ());
 
         final int maxParameterValue = valueChanger.getUpperBound ();
 
@@ -96,6 +99,22 @@ public class ChannelImpl implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        // Include the versions of the parameters, the sum increases with each change as well. The
+        // VU meters are not included since they change all the time
+        int version = this.changes.getVersion ();
+        if (this.channel == null)
+            return version;
+        version += this.volumeParameter.getVersion () + this.panParameter.getVersion ();
+        for (final ISend send: this.sends)
+            version += send.getVersion ();
+        return version;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getIndex ()
@@ -116,7 +135,10 @@ public class ChannelImpl implements IChannel
     @Override
     public void setSelected (final boolean isSelected)
     {
+        if (this.selected == isSelected)
+            return;
         this.selected = isSelected;
+        this.changes.changed ();
     }
 
 
@@ -414,6 +436,14 @@ public class ChannelImpl implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVuVersion ()
+    {
+        return this.vuChanges.getVersion ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getNumSends ()
@@ -470,6 +500,7 @@ public class ChannelImpl implements IChannel
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vu = value >= maxParameterValue ? maxParameterValue - 1 : value;
+        this.vuChanges.changed ();
     }
 
 
@@ -478,6 +509,7 @@ public class ChannelImpl implements IChannel
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vuLeft = value >= maxParameterValue ? maxParameterValue - 1 : value;
+        this.vuChanges.changed ();
     }
 
 
@@ -486,5 +518,6 @@ public class ChannelImpl implements IChannel
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vuRight = value >= maxParameterValue ? maxParameterValue - 1 : value;
+        this.vuChanges.changed ();
     }
 }
@@ -7,12 +7,10 @@ package de.mossgrabers.bitwig.framework.daw.data;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.TrackSelectionObserver;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
+import de.mossgrabers.framework.utils.ObserverList;
 
 import com.bitwig.extension.controller.api.MasterTrack;
 
-import java.util.ArrayList;
-import java.util.List;
-
 
 /**
  * The master track.
@@ -21,7 +19,7 @@ import java.util.List;
  */
 public class MasterTrackImpl extends TrackImpl implements IMasterTrack
 {
-    private final List<TrackSelectionObserver> observers = new ArrayList<> ();
+    private final ObserverList<TrackSelectionObserver> observers = new ObserverList<> (new TrackSelectionObserver [0]);
 
 
     /**
@@ -54,7 +52,7 @@ public class MasterTrackImpl extends TrackImpl implements IMasterTrack
     private void handleIsSelected (final boolean isSelected)
     {
         this.setSelected (isSelected);
-        for (final TrackSelectionObserver observer: this.observers)
+        for (final TrackSelectionObserver observer: this.observers.getObservers ())
             observer.call (-1, isSelected);
     }
 }
\ No newline at end of file
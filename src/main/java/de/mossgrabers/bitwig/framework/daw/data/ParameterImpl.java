@@ -5,6 +5,8 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.IncrementAccumulator;
+import de.mossgrabers.framework.daw.ChangeCounter;
 import de.mossgrabers.framework.daw.data.IParameter;
 
 import com.bitwig.extension.controller.api.Parameter;
@@ -17,12 +19,15 @@ import com.bitwig.extension.controller.api.Parameter;
  */
 public class ParameterImpl implements IParameter
 {
-    private IValueChanger   valueChanger;
-    private final Parameter parameter;
-    private final int       maxParameterValue;
+    private IValueChanger              valueChanger;
+    private final Parameter            parameter;
+    private final int                  maxParameterValue;
+    private final IncrementAccumulator increments;
 
-    private int             value;
-    private int             modulatedValue;
+    protected final ChangeCounter      changes = new ChangeCounter ();
+
+    private int                        value;
+    private int                        modulatedValue;
 
 
     /**
@@ -37,10 +42,11 @@ public class ParameterImpl implements IParameter
         this.valueChanger = valueChanger;
         this.parameter = parameter;
         this.maxParameterValue = maxParameterValue;
+        this.increments = valueChanger.getIncrementBatcher ().createAccumulator (increment -> this.parameter.inc (Double.valueOf (increment), Integer.valueOf (this.maxParameterValue)));
 
-        parameter.exists ().markInterested ();
-        parameter.name ().markInterested ();
-        parameter.displayedValue ().markInterested ();
+        parameter.exists ().addValueObserver (value -> this.changes.changed ());
+        parameter.name ().addValueObserver (value -> this.changes.changed ());
+        parameter.displayedValue ().addValueObserver (value -> this.changes.changed ());
         parameter.value ().addValueObserver (maxParameterValue, this::handleValue);
         parameter.modulatedValue ().addValueObserver (maxParameterValue, this::handleModulatedValue);
     }
@@ -58,11 +64,19 @@ public class ParameterImpl implements IParameter
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        return this.changes.getVersion ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void inc (final double increment)
     {
-        this.parameter.inc (Double.valueOf (increment), Integer.valueOf (this.maxParameterValue));
+        this.increments.add (increment, false);
     }
 
 
@@ -118,6 +132,7 @@ public class ParameterImpl implements IParameter
     @Override
     public void setValue (final double value)
     {
+        this.increments.cancel ();
         this.parameter.set (Double.valueOf (value), Integer.valueOf (this.maxParameterValue));
     }
 
@@ -126,7 +141,7 @@ public class ParameterImpl implements IParameter
     @Override
     public void changeValue (final int value)
     {
-        this.inc (this.valueChanger.calcKnobSpeed (value));
+        this.increments.add (this.valueChanger.calcKnobSpeed (value), !this.valueChanger.isSlow ());
     }
 
 
@@ -150,6 +165,7 @@ public class ParameterImpl implements IParameter
     @Override
     public void resetValue ()
     {
+        this.increments.cancel ();
         this.parameter.reset ();
     }
 
@@ -165,11 +181,13 @@ public class ParameterImpl implements IParameter
     private void handleValue (final int value)
     {
         this.value = value;
+        this.changes.changed ();
     }
 
 
     private void handleModulatedValue (final int modulatedValue)
     {
         this.modulatedValue = modulatedValue;
+        this.changes.changed ();
     }
 }
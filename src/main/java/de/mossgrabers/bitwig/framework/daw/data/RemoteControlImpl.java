@@ -0,0 +1,197 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw.data;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ParameterPageCache;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import com.bitwig.extension.controller.api.Parameter;
+
+
+/**
+ * Encapsulates the data of a parameter of a remote control page. The data is stored in a cache of
+ * the pages. After switching to a cached page, the cached data is shown until the DAW confirmed
+ * the new page or a timeout is reached. Data which arrives while the page is not confirmed is
+ * neither stored nor does it end showing the cached data, since it might still belong to the
+ * previous page.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RemoteControlImpl extends ParameterImpl
+{
+    /** Show the cached data no longer than this time in milliseconds. */
+    public static final int          SNAPSHOT_TIMEOUT       = 500;
+
+    private final int                index;
+    private final ParameterPageCache cache;
+
+    private String                   snapshotName;
+    private String                   snapshotDisplayedValue;
+    private int                      snapshotValue          = -1;
+    private int                      snapshotModulatedValue = -1;
+    private long                     snapshotTime;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param parameter The parameter
+     * @param maxParameterValue The maximum number for values (range is 0 till maxParameterValue-1)
+     * @param index The index of the parameter on the page
+     * @param cache The cache of the pages
+     */
+    public RemoteControlImpl (final IValueChanger valueChanger, final Parameter parameter, final int maxParameterValue, final int index, final ParameterPageCache cache)
+    {
+        super (valueChanger, parameter, maxParameterValue);
+
+        this.index = index;
+        this.cache = cache;
+
+        parameter.name ().addValueObserver (this::handleName);
+        parameter.displayedValue ().addValueObserver (this::handleDisplayedValue);
+        parameter.value ().addValueObserver (maxParameterValue, this::handleValue);
+        parameter.modulatedValue ().addValueObserver (maxParameterValue, this::handleModulatedValue);
+    }
+
+
+    /**
+     * Store the current data of the DAW in the confirmed page of the cache.
+     */
+    public void storeSnapshot ()
+    {
+        this.cache.storeName (this.index, super.getName ());
+        this.cache.storeDisplayedValue (this.index, super.getDisplayedValue ());
+        this.cache.storeValue (this.index, super.getValue ());
+        this.cache.storeModulatedValue (this.index, super.getModulatedValue ());
+    }
+
+
+    /**
+     * Show the data of the shown page of the cache until the DAW confirmed the page.
+     */
+    public void showSnapshot ()
+    {
+        if (!this.cache.isCached ())
+        {
+            this.clearSnapshot ();
+            return;
+        }
+
+        this.snapshotName = this.cache.getName (this.index);
+        this.snapshotDisplayedValue = this.cache.getDisplayedValue (this.index);
+        this.snapshotValue = this.cache.getValue (this.index);
+        this.snapshotModulatedValue = this.cache.getModulatedValue (this.index);
+        this.snapshotTime = System.currentTimeMillis ();
+        this.changes.changed ();
+    }
+
+
+    /**
+     * Stop showing the cached data and show the data of the DAW.
+     */
+    public void clearSnapshot ()
+    {
+        if (this.snapshotTime == 0)
+            return;
+        this.snapshotName = null;
+        this.snapshotDisplayedValue = null;
+        this.snapshotValue = -1;
+        this.snapshotModulatedValue = -1;
+        this.snapshotTime = 0;
+        this.changes.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.snapshotName != null && this.isSnapshotActive () ? this.snapshotName : super.getName ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return this.snapshotName != null && this.isSnapshotActive () ? StringUtils.optimizeName (this.snapshotName, limit) : super.getName (limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDisplayedValue ()
+    {
+        return this.snapshotDisplayedValue != null && this.isSnapshotActive () ? this.snapshotDisplayedValue : super.getDisplayedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDisplayedValue (final int limit)
+    {
+        return this.snapshotDisplayedValue != null && this.isSnapshotActive () ? StringUtils.optimizeName (this.snapshotDisplayedValue, limit) : super.getDisplayedValue (limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getValue ()
+    {
+        return this.snapshotValue >= 0 && this.isSnapshotActive () ? this.snapshotValue : super.getValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getModulatedValue ()
+    {
+        return this.snapshotModulatedValue >= 0 && this.isSnapshotActive () ? this.snapshotModulatedValue : super.getModulatedValue ();
+    }
+
+
+    private boolean isSnapshotActive ()
+    {
+        return this.snapshotTime > 0 && System.currentTimeMillis () - this.snapshotTime < SNAPSHOT_TIMEOUT;
+    }
+
+
+    private void handleName (final String name)
+    {
+        if (!this.cache.isConfirmed ())
+            return;
+        this.snapshotName = null;
+        this.cache.storeName (this.index, name);
+    }
+
+
+    private void handleDisplayedValue (final String displayedValue)
+    {
+        if (!this.cache.isConfirmed ())
+            return;
+        this.snapshotDisplayedValue = null;
+        this.cache.storeDisplayedValue (this.index, displayedValue);
+    }
+
+
+    private void handleValue (final int value)
+    {
+        if (!this.cache.isConfirmed ())
+            return;
+        this.snapshotValue = -1;
+        this.cache.storeValue (this.index, value);
+    }
+
+
+    private void handleModulatedValue (final int modulatedValue)
+    {
+        if (!this.cache.isConfirmed ())
+            return;
+        this.snapshotModulatedValue = -1;
+        this.cache.storeModulatedValue (this.index, modulatedValue);
+    }
+}
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.framework.daw.ChangeCounter;
 import de.mossgrabers.framework.daw.data.ISlot;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
@@ -21,6 +22,7 @@ public class SlotImpl implements ISlot
     private final int                  index;
     private final ClipLauncherSlot     slot;
     private final ClipLauncherSlotBank csBank;
+    private final ChangeCounter        changes = new ChangeCounter ();
 
 
     /**
@@ -37,18 +39,18 @@ public class SlotImpl implements ISlot
         this.index = index;
         this.slot = slot;
 
-        slot.exists ().markInterested ();
-        slot.name ().markInterested ();
-        slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
+        slot.exists ().addValueObserver (value -> this.changes.changed ());
+        slot.name ().addValueObserver (value -> this.changes.changed ());
+        slot.hasContent ().addValueObserver (value -> this.changes.changed ());
+        slot.color ().addValueObserver ( (red, green, blue) -> this.changes.changed ());
 
         // States
-        slot.isPlaying ().markInterested ();
-        slot.isPlaybackQueued ().markInterested ();
-        slot.isRecording ().markInterested ();
-        slot.isRecordingQueued ().markInterested ();
-        slot.isStopQueued ().markInterested ();
-        slot.isSelected ().markInterested ();
+        slot.isPlaying ().addValueObserver (value -> this.changes.changed ());
+        slot.isPlaybackQueued ().addValueObserver (value -> this.changes.changed ());
+        slot.isRecording ().addValueObserver (value -> this.changes.changed ());
+        slot.isRecordingQueued ().addValueObserver (value -> this.changes.changed ());
+        slot.isStopQueued ().addValueObserver (value -> this.changes.changed ());
+        slot.isSelected ().addValueObserver (value -> this.changes.changed ());
     }
 
 
@@ -69,6 +71,14 @@ public class SlotImpl implements ISlot
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        return this.changes.getVersion ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getIndex ()
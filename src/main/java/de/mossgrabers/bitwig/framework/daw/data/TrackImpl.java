@@ -45,16 +45,16 @@ public class TrackImpl extends ChannelImpl implements ITrack
         if (track == null)
             return;
 
-        track.trackType ().markInterested ();
-        track.position ().markInterested ();
-        track.isGroup ().markInterested ();
-        track.arm ().markInterested ();
-        track.monitor ().markInterested ();
-        track.autoMonitor ().markInterested ();
-        track.crossFadeMode ().markInterested ();
-        track.canHoldNoteData ().markInterested ();
-        track.canHoldAudioData ().markInterested ();
-        track.isStopped ().markInterested ();
+        track.trackType ().addValueObserver (value -> this.changes.changed ());
+        track.position ().addValueObserver (value -> this.changes.changed ());
+        track.isGroup ().addValueObserver (value -> this.changes.changed ());
+        track.arm ().addValueObserver (value -> this.changes.changed ());
+        track.monitor ().addValueObserver (value -> this.changes.changed ());
+        track.autoMonitor ().addValueObserver (value -> this.changes.changed ());
+        track.crossFadeMode ().addValueObserver (value -> this.changes.changed ());
+        track.canHoldNoteData ().addValueObserver (value -> this.changes.changed ());
+        track.canHoldAudioData ().addValueObserver (value -> this.changes.changed ());
+        track.isStopped ().addValueObserver (value -> this.changes.changed ());
 
         this.slots = new SlotImpl [numScenes];
         final ClipLauncherSlotBank cs = track.clipLauncherSlotBank ();
@@ -85,6 +85,20 @@ public class TrackImpl extends ChannelImpl implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        int version = super.getVersion ();
+        if (this.slots != null)
+        {
+            for (final ISlot slot: this.slots)
+                version += slot.getVersion ();
+        }
+        return version;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ChannelType getType ()
@@ -56,6 +56,7 @@ public class GenericControllerExtension extends ControllerExtension
     @Override
     public void flush ()
     {
+        this.setup.getModel ().getValueChanger ().getIncrementBatcher ().flush ();
         this.setup.flush ();
     }
 }
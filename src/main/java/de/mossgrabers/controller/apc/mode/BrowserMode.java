@@ -7,6 +7,7 @@ package de.mossgrabers.controller.apc.mode;
 import de.mossgrabers.controller.apc.controller.APCControlSurface;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObserverFacet;
 
 
 /**
@@ -41,6 +42,23 @@ public class BrowserMode extends BaseMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void onActivate ()
+    {
+        super.onActivate ();
+        this.model.getObserverSubscriptions ().acquire (ObserverFacet.BROWSER, this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDeactivate ()
+    {
+        this.model.getObserverSubscriptions ().release (ObserverFacet.BROWSER, this);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setValue (final int index, final int value)
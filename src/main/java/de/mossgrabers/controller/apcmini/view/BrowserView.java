@@ -10,6 +10,7 @@ import de.mossgrabers.controller.apcmini.controller.APCminiControlSurface;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObserverFacet;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.AbstractView;
 import de.mossgrabers.framework.view.SceneView;
@@ -48,6 +49,23 @@ public class BrowserView extends AbstractView<APCminiControlSurface, APCminiConf
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void onActivate ()
+    {
+        super.onActivate ();
+        this.model.getObserverSubscriptions ().acquire (ObserverFacet.BROWSER, this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDeactivate ()
+    {
+        this.model.getObserverSubscriptions ().release (ObserverFacet.BROWSER, this);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void drawGrid ()
@@ -158,7 +158,7 @@ public class BeatstepControllerSetup extends AbstractControllerSetup<BeatstepCon
     @Override
     protected void createModel ()
     {
-        this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, 8, 8, 8, 16, 16, true, -1, -1, -1, -1);
+        this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, 8, 8, 8, 16, 16, true, -1, -1, -1, -1, false);
         this.model.getTrackBank ().addTrackSelectionObserver (this::handleTrackChange);
     }
 
@@ -10,6 +10,7 @@ import de.mossgrabers.controller.beatstep.controller.BeatstepControlSurface;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObserverFacet;
 import de.mossgrabers.framework.view.AbstractView;
 import de.mossgrabers.framework.view.ViewManager;
 
@@ -33,6 +34,23 @@ public class BrowserView extends AbstractView<BeatstepControlSurface, BeatstepCo
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void onActivate ()
+    {
+        super.onActivate ();
+        this.model.getObserverSubscriptions ().acquire (ObserverFacet.BROWSER, this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDeactivate ()
+    {
+        this.model.getObserverSubscriptions ().release (ObserverFacet.BROWSER, this);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onKnob (final int index, final int value)
@@ -10,6 +10,7 @@ import de.mossgrabers.controller.beatstep.controller.BeatstepControlSurface;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObserverFacet;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.view.AbstractView;
 
@@ -39,6 +40,24 @@ public class DeviceView extends AbstractView<BeatstepControlSurface, BeatstepCon
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void onActivate ()
+    {
+        super.onActivate ();
+        this.model.getObserverSubscriptions ().acquire (ObserverFacet.DEVICE_LAYERS, this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDeactivate ()
+    {
+        super.onDeactivate ();
+        this.model.getObserverSubscriptions ().release (ObserverFacet.DEVICE_LAYERS, this);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onKnob (final int index, final int value)
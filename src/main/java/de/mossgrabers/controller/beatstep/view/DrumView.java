@@ -82,6 +82,7 @@ public class DrumView extends BaseSequencerView
                 }
                 this.offsetY = Scales.DRUM_NOTE_START + this.scales.getDrumOctave () * 16;
                 this.updateNoteMapping ();
+                this.model.getTrackBank ().resendPlayingNotes ();
                 this.surface.getDisplay ().notify (this.scales.getDrumRangeText ());
                 break;
 
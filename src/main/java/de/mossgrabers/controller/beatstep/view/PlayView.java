@@ -89,6 +89,10 @@ public class PlayView extends AbstractPlayView<BeatstepControlSurface, BeatstepC
         }
 
         this.updateNoteMapping ();
+
+        // The octave has changed, light the notes which are still playing again
+        if (index == 15)
+            this.model.getTrackBank ().resendPlayingNotes ();
     }
 
 
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.ICursorClip;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.scale.ReverseNoteMap;
 import de.mossgrabers.framework.scale.Scales;
 
 
@@ -20,8 +21,10 @@ import de.mossgrabers.framework.scale.Scales;
  */
 public class SequencerView extends BaseSequencerView
 {
-    private static final int NUM_DISPLAY_COLS = 16;
-    private static final int START_KEY        = 36;
+    private static final int     NUM_DISPLAY_COLS = 16;
+    private static final int     START_KEY        = 36;
+
+    private final ReverseNoteMap padsOfNotes      = new ReverseNoteMap ();
 
 
     /**
@@ -39,11 +42,8 @@ public class SequencerView extends BaseSequencerView
         final ITrackBank tb = model.getTrackBank ();
         tb.addNoteObserver ( (note, velocity) -> {
             // Light notes send from the sequencer
-            for (int i = 0; i < 128; i++)
-            {
-                if (this.noteMap[i] == note)
-                    this.pressedKeys[i] = velocity;
-            }
+            for (final int pad: this.padsOfNotes.getPads (this.noteMap, note))
+                this.pressedKeys[pad] = velocity;
         });
         tb.addTrackSelectionObserver ( (index, isSelected) -> this.clearPressedKeys ());
     }
@@ -87,6 +87,7 @@ public class SequencerView extends BaseSequencerView
                 }
                 this.offsetY = SequencerView.START_KEY + this.scales.getDrumOctave () * 16;
                 this.updateNoteMapping ();
+                this.model.getTrackBank ().resendPlayingNotes ();
                 this.surface.getDisplay ().notify (this.scales.getDrumRangeText ());
                 break;
 
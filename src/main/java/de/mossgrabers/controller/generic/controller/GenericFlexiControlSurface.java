@@ -125,6 +125,8 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     @Override
     public void flush ()
     {
+        this.flushTranslationTables ();
+
         if (this.isUpdatingValue)
             return;
 
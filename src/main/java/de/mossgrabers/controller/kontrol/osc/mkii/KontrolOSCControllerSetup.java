@@ -69,7 +69,7 @@ public class KontrolOSCControllerSetup extends AbstractControllerSetup<IControlS
     @Override
     protected void createModel ()
     {
-        this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, 128, 128, 0, 0, 0, true, 0, 0, 0, 0);
+        this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, 128, 128, 0, 0, 0, true, 0, 0, 0, 0, false);
     }
 
 
@@ -85,6 +85,7 @@ public class KontrolOSCControllerSetup extends AbstractControllerSetup<IControlS
         // Send OSC messages
         final IOpenSoundControlServer oscServer = this.host.connectToOSCServer (this.configuration.getSendHost (), this.configuration.getSendPort ());
         this.writer = new KontrolOSCWriter (this.host, this.model, oscServer, IS_16, this.configuration);
+        this.writer.start ();
 
         // Receive OSC messages
         this.host.createOSCServer (new KontrolOSCParser (this.host, surface, this.model, this.configuration, this.writer, IS_16), this.configuration.getReceivePort ());
@@ -63,11 +63,8 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
 
     /** {@inheritDoc} */
     @Override
-    public void flush (final boolean dump)
+    protected void flushValues (final boolean dump)
     {
-        if (!this.isConnected ())
-            return;
-
         final ITransport trans = this.model.getTransport ();
         final ITrackBank tb = this.model.getTrackBank ();
         final IChannelBank tbe = this.model.getEffectTrackBank ();
@@ -188,9 +185,6 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
             // 1.5
             this.sendOSC ("/track/device/instance-name", this.getKompleteInstance (), dump);
         }
-
-        // Send all collected messages
-        this.flush ();
     }
 
 
@@ -233,7 +227,7 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
         // Track info needs to be used to update the track name but must only be sent in this case
         final String cacheAddress = new StringBuilder ("/trackname/").append (trackType).append ("/").append (trackIndex).toString ();
         final String name = track.getName ();
-        if (!compareValues (this.oldValues.get (cacheAddress), name))
+        if (this.isCollectingDump () || !compareValues (this.oldValues.get (cacheAddress), name))
         {
             this.oldValues.put (cacheAddress, name);
             this.sendTrackInfo (trackType, trackIndex);
@@ -244,8 +238,12 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
     /**
      * Send the shutdown message to the host.
      */
+    @Override
     public void shutdown ()
     {
+        // Send the remaining messages before the shutdown message
+        super.shutdown ();
+
         try
         {
             this.oscServer.sendMessage (this.host.createOSCMessage (this.daw + "shutdown", Collections.emptyList ()));
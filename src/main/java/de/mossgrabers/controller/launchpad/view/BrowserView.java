@@ -10,6 +10,7 @@ import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObserverFacet;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.AbstractView;
 import de.mossgrabers.framework.view.SceneView;
@@ -66,10 +67,20 @@ public class BrowserView extends AbstractView<LaunchpadControlSurface, Launchpad
 
         super.onActivate ();
 
+        this.model.getObserverSubscriptions ().acquire (ObserverFacet.BROWSER, this);
+
         this.surface.scheduleTask (this::delayedUpdateArrowButtons, 150);
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void onDeactivate ()
+    {
+        this.model.getObserverSubscriptions ().release (ObserverFacet.BROWSER, this);
+    }
+
+
     private void delayedUpdateArrowButtons ()
     {
         final boolean hasClips = this.model.getHost ().hasClips ();
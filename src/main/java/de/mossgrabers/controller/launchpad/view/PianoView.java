@@ -155,5 +155,8 @@ public class PianoView extends PlayView
     {
         this.noteMap = this.model.canSelectedTrackHoldNotes () ? this.scales.getPianoMatrix () : Scales.getEmptyMatrix ();
         this.surface.setKeyTranslationTable (this.scales.translateMatrixToGrid (this.noteMap));
+
+        // Light the notes which are still playing on their new pads
+        this.model.getTrackBank ().resendPlayingNotes ();
     }
 }
\ No newline at end of file
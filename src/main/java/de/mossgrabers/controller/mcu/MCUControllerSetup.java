@@ -75,6 +75,7 @@ import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.ObserverFacet;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
@@ -174,6 +175,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.colorManager = new ColorManager ();
         this.valueChanger = new Relative2ValueChanger (16241 + 1, 100, 10);
+        this.valueChanger.getIncrementBatcher ().setMaxAcceleration (4);
         this.configuration = new MCUConfiguration (this.valueChanger);
     }
 
@@ -193,12 +195,15 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     @Override
     protected void createModel ()
     {
-        this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, 8 * this.numMCUDevices, 8, 8, 8, 8, true, 8 * this.numMCUDevices, -1, 0, 0);
+        this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, 8 * this.numMCUDevices, 8, 8, 8, 8, true, 8 * this.numMCUDevices, -1, 0, 0, false);
 
         final ITrackBank trackBank = this.model.getTrackBank ();
         trackBank.setIndication (true);
         trackBank.addTrackSelectionObserver (this::handleTrackChange);
 
+        // Display the track names right away when switching banks
+        this.model.getObserverSubscriptions ().acquire (ObserverFacet.TRACK_METADATA, this);
+
         this.model.getMasterTrack ().addTrackSelectionObserver ( (index, isSelected) -> {
             final ModeManager modeManager = this.getSurface ().getModeManager ();
             if (isSelected)
@@ -564,19 +569,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             return;
 
         final ITransport t = this.model.getTransport ();
-        String positionText = t.getPositionText ();
-        if (this.configuration.isDisplayTicks ())
-            positionText += " ";
-        else
-        {
-            String tempoStr = t.formatTempoNoFraction (t.getTempo ());
-            final int pos = positionText.lastIndexOf (':');
-            if (tempoStr.length () < 3)
-                tempoStr = "0" + tempoStr;
-            positionText = positionText.substring (0, pos + 1) + tempoStr;
-        }
-
-        this.getSurface ().getSegmentDisplay ().setTransportPositionDisplay (positionText);
+        this.getSurface ().getSegmentDisplay ().setTransportPosition (t.getPosition (), t.getNumerator (), t.getDenominator (), this.configuration.isDisplayTicks (), (int) Math.rint (t.getTempo ()));
     }
 
 
@@ -42,6 +42,8 @@ public class MCUDisplay extends AbstractDisplay
     private boolean                hasMaster;
 
     private LatestTaskExecutor []  executors             = new LatestTaskExecutor [4];
+    private final String []        pendingTexts          = new String [2];
+    private final int [] []        pendingRanges         = new int [2] [2];
 
 
     /**
@@ -66,21 +68,11 @@ public class MCUDisplay extends AbstractDisplay
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    public AbstractDisplay clearRow (final int row)
-    {
-        for (int i = 0; i < this.noOfCells; i++)
-            this.clearCell (row, i);
-        return this;
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public MCUDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "         ".substring (0, this.charactersOfCell);
+        this.setCellText (row * this.noOfCells + cell, "         ".substring (0, this.charactersOfCell));
         return this;
     }
 
@@ -92,8 +84,8 @@ public class MCUDisplay extends AbstractDisplay
         final int cell = 2 * block;
         if (value.length () >= this.charactersOfCell)
         {
-            this.cells[row * this.noOfCells + cell] = pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (this.charactersOfCell), this.charactersOfCell);
+            this.setCellText (row * this.noOfCells + cell, pad (value.substring (0, this.charactersOfCell), this.charactersOfCell));
+            this.setCellText (row * this.noOfCells + cell + 1, pad (value.substring (this.charactersOfCell), this.charactersOfCell));
         }
         else
         {
@@ -108,8 +100,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), this.charactersOfCell - 1) + " ";
-        return this;
+        return this.setCell (row, column, Integer.toString (value));
     }
 
 
@@ -119,7 +110,9 @@ public class MCUDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, this.charactersOfCell - 1) + " ";
+            final int index = row * this.noOfCells + column;
+            if (!this.restoreCell (index, value))
+                this.storeCell (index, value, padCell (value, this.charactersOfCell - 1));
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -133,30 +126,78 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        this.executors[row + (this.isFirst ? 0 : 2)].execute ( () -> {
-            String t = text;
-            if (!this.isFirst && this.hasMaster)
-            {
-                if (row == 0)
-                    t = t.substring (0, t.length () - 1) + 'r';
-                t = "  " + t;
+        this.writeRange (row, text, 0, text.length ());
+    }
+
 
+    /**
+     * Sends only the changed characters by using the character offset of the display message.
+     * Since the executor drops pending tasks, the range of a pending task is extended and the task
+     * which runs first sends the latest text.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeRange (final int row, final String text, final int start, final int end)
+    {
+        synchronized (this.pendingRanges)
+        {
+            final int [] range = this.pendingRanges[row];
+            if (this.pendingTexts[row] == null)
+            {
+                range[0] = start;
+                range[1] = end;
             }
-            final int length = t.length ();
-            final int [] array = new int [length];
-            for (int i = 0; i < length; i++)
-                array[i] = t.charAt (i);
-            final StringBuilder code = new StringBuilder ();
-            if (this.isFirst)
-                code.append (SYSEX_DISPLAY_HEADER1);
             else
-                code.append (SYSEX_DISPLAY_HEADER2);
+            {
+                range[0] = Math.min (range[0], start);
+                range[1] = Math.max (range[1], end);
+            }
+            this.pendingTexts[row] = text;
+        }
+
+        this.executors[row + (this.isFirst ? 0 : 2)].execute ( () -> this.sendRange (row));
+    }
+
+
+    private void sendRange (final int row)
+    {
+        final String text;
+        final int from;
+        final int to;
+        synchronized (this.pendingRanges)
+        {
+            text = this.pendingTexts[row];
+            if (text == null)
+                return;
+            from = this.pendingRanges[row][0];
+            to = this.pendingRanges[row][1];
+            this.pendingTexts[row] = null;
+        }
+
+        String t = text;
+        if (!this.isFirst && this.hasMaster)
+        {
             if (row == 0)
-                code.append ("00 ");
-            else
-                code.append ("38 ");
-            this.output.sendSysex (code.append (StringUtils.toHexStr (array)).append ("F7").toString ());
-        });
+                t = t.substring (0, t.length () - 1) + 'r';
+            t = "  " + t;
+
+        }
+
+        // The prefix of the master cell is only sent with the start of the row
+        final int shift = t.length () - text.length ();
+        final int first = from == 0 ? 0 : from + shift;
+        final int last = to + shift;
+        final int [] array = new int [last - first];
+        for (int i = first; i < last; i++)
+            array[i - first] = t.charAt (i);
+        final StringBuilder code = new StringBuilder ();
+        if (this.isFirst)
+            code.append (SYSEX_DISPLAY_HEADER1);
+        else
+            code.append (SYSEX_DISPLAY_HEADER2);
+        code.append (StringUtils.toHexStr ((row == 0 ? 0 : 0x38) + first)).append (' ');
+        this.output.sendSysex (code.append (StringUtils.toHexStr (array)).append ("F7").toString ());
     }
 
 
@@ -168,6 +209,23 @@ public class MCUDisplay extends AbstractDisplay
     }
 
 
+    /**
+     * Pad the text to the given length and add a space as separator to the next cell.
+     *
+     * @param str The text to pad
+     * @param length The length of the text
+     * @return The padded text
+     */
+    private static String padCell (final String str, final int length)
+    {
+        final String text = str == null ? "" : str;
+        final int diff = length - text.length ();
+        if (diff < 0)
+            return text.substring (0, length) + " ";
+        return text + SPACES[diff + 1];
+    }
+
+
     private static String pad (final String str, final int length)
     {
         final String text = str == null ? "" : str;
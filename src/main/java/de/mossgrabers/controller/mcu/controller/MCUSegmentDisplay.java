@@ -14,9 +14,15 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class MCUSegmentDisplay
 {
-    private IMidiOutput output;
-    private int []      transportBuffer  = new int [10];
-    private int []      assignmentBuffer = new int [2];
+    private static final int SPACE            = 0x20;
+    private static final int MINUS            = 0x2D;
+    private static final int DIGIT            = 0x30;
+    private static final int DOT              = 0x40;
+
+    private IMidiOutput      output;
+    private int []           transportBuffer  = new int [10];
+    private int []           transportDigits  = new int [10];
+    private int []           assignmentBuffer = new int [2];
 
 
     /**
@@ -31,41 +37,46 @@ public class MCUSegmentDisplay
 
 
     /**
-     * Sets the position string. Must only contain numbers and ':'.
+     * Sets the play position. The digits are calculated from the position and only the changed
+     * digits are sent. The layout follows the labels of the display: 3 digits for the bars, 2 for
+     * the beats, 2 for the sixteenths and 3 for the ticks or the tempo. Beats are counted in units
+     * of the denominator of the time signature, e.g. 1-6 in 6/8.
      *
-     * @param position The string
+     * @param beatTime The play position in quarter notes
+     * @param numerator The numerator of the time signature
+     * @param denominator The denominator of the time signature
+     * @param showTicks Shows the ticks (hundredths of a sixteenth) if true, otherwise the tempo
+     * @param tempo The tempo to display if ticks are not shown
      */
-    public void setTransportPositionDisplay (final String position)
+    public void setTransportPosition (final double beatTime, final int numerator, final int denominator, final boolean showTicks, final int tempo)
     {
-        boolean addDot = false;
-        int pos = position.length () - 1;
-        int i = 0;
-        while (i < 10)
+        final double beatLength = 4.0 / denominator;
+        final double measureLength = numerator * beatLength;
+        final int measure = (int) Math.floor (beatTime / measureLength);
+        double t = beatTime - measure * measureLength;
+        final int beats = (int) Math.floor (t / beatLength);
+        t = (t - beats * beatLength) * 4;
+        final int sixteenths = (int) Math.floor (t);
+
+        if (showTicks)
         {
-            int c = 0x20;
-            if (pos >= 0)
-            {
-                final char singleDigit = position.charAt (pos);
-                pos--;
-                final boolean isDot = singleDigit == ':';
-                if (isDot)
-                {
-                    addDot = isDot;
-                    continue;
-                }
-
-                c = singleDigit; // 0x30 + i;
-                if (addDot)
-                    c += 0x40;
-            }
+            this.transportDigits[0] = SPACE;
+            this.setNumber ((int) Math.floor ((t - sixteenths) * 100), 1, 2, true, false);
+        }
+        else
+            this.setNumber (tempo, 0, 3, true, false);
+        this.setNumber (sixteenths + 1, 3, 2, false, true);
+        this.setNumber (beats + 1, 5, 2, false, true);
+        this.setNumber (measure + 1, 7, 3, false, true);
 
+        for (int i = 0; i < 10; i++)
+        {
+            final int c = this.transportDigits[i];
             if (c != this.transportBuffer[i])
             {
                 this.output.sendCC (0x40 + i, c);
                 this.transportBuffer[i] = c;
             }
-            i++;
-            addDot = false;
         }
     }
 
@@ -90,6 +101,39 @@ public class MCUSegmentDisplay
     }
 
 
+    /**
+     * Write a number right aligned into the transport digits. Digits which do not fit are dropped.
+     *
+     * @param number The number to write
+     * @param start The index of the rightmost digit
+     * @param length The number of digits to use
+     * @param fillZeros Fills unused digits with zeros if true, otherwise with spaces
+     * @param addDot Adds a dot to the rightmost digit to separate it from the next group
+     */
+    private void setNumber (final int number, final int start, final int length, final boolean fillZeros, final boolean addDot)
+    {
+        int value = Math.abs (number);
+        boolean isNegative = number < 0;
+        for (int i = 0; i < length; i++)
+        {
+            int c;
+            if (i == 0 || value > 0)
+            {
+                c = DIGIT + value % 10;
+                value /= 10;
+            }
+            else if (isNegative)
+            {
+                c = MINUS;
+                isNegative = false;
+            }
+            else
+                c = fillZeros ? DIGIT : SPACE;
+            this.transportDigits[start + i] = i == 0 && addDot ? c + DOT : c;
+        }
+    }
+
+
     /**
      * Clear the 7-digit displays.
      */
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ITrackMetadataCache;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.AbstractMode;
@@ -112,11 +113,9 @@ public abstract class BaseMode extends AbstractMode<MCUControlSurface, MCUConfig
 
         final boolean isMainDevice = this.surface.isMainDevice ();
 
+        final ITrackMetadataCache cache = this.model.getTrackMetadataCache ();
         for (int i = 0; i < 8; i++)
-        {
-            final ITrack t = tb.getTrack (extenderOffset + i);
-            d2.setCell (0, i, StringUtils.shortenAndFixASCII (t.getName (), isMainDevice ? 6 : 7));
-        }
+            d2.setCell (0, i, StringUtils.shortenAndFixASCII (cache.getTrackName (tb, extenderOffset + i), isMainDevice ? 6 : 7));
 
         if (isMainDevice)
             d2.setCell (0, 8, "Maste");
@@ -10,6 +10,8 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObserverFacet;
+import de.mossgrabers.framework.daw.Versioned;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -47,11 +49,20 @@ public class DeviceBrowserMode extends BaseMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void onActivate ()
+    {
+        this.model.getObserverSubscriptions ().acquire (ObserverFacet.BROWSER, this);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onDeactivate ()
     {
         this.model.getBrowser ().stopBrowsing (true);
+        this.model.getObserverSubscriptions ().release (ObserverFacet.BROWSER, this);
     }
 
 
@@ -72,6 +83,15 @@ public class DeviceBrowserMode extends BaseMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Versioned [] getDisplayDependencies ()
+    {
+        // The browser does not count its changes
+        return null;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay ()
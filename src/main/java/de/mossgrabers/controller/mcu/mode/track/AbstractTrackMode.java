@@ -9,7 +9,7 @@ import de.mossgrabers.controller.mcu.mode.BaseMode;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.IModel;
-import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.ITrackMetadataCache;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -35,15 +35,15 @@ public abstract class AbstractTrackMode extends BaseMode
     protected boolean drawTrackHeader ()
     {
         final IChannelBank tb = this.model.getCurrentTrackBank ();
+        final ITrackMetadataCache cache = this.model.getTrackMetadataCache ();
 
         final Display d = this.surface.getDisplay ().clear ();
 
-        // Format track names
+        // Format track names, use the cached ones while the bank is scrolling
         final int extenderOffset = this.surface.getExtenderOffset ();
         for (int i = 0; i < 8; i++)
         {
-            final ITrack t = tb.getTrack (extenderOffset + i);
-            final String name = t.getName ();
+            final String name = cache.getTrackName (tb, extenderOffset + i);
             d.setCell (0, i, StringUtils.shortenAndFixASCII (name, 6));
         }
         d.done (0);
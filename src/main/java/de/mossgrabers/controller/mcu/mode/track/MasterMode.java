@@ -9,6 +9,7 @@ import de.mossgrabers.controller.mcu.mode.BaseMode;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.Versioned;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -95,6 +96,15 @@ public class MasterMode extends BaseMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Versioned [] getDisplayDependencies ()
+    {
+        // The project and the application do not count their changes
+        return null;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay ()
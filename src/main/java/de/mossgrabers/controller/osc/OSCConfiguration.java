@@ -4,11 +4,16 @@
 
 package de.mossgrabers.controller.osc;
 
+import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
+import de.mossgrabers.framework.utils.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -19,15 +24,21 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
 public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
 {
     /** ID for receive port setting. */
-    public static final Integer RECEIVE_PORT = Integer.valueOf (50);
+    public static final Integer RECEIVE_PORT        = Integer.valueOf (50);
     /** ID for send host setting. */
-    public static final Integer SEND_HOST    = Integer.valueOf (51);
+    public static final Integer SEND_HOST           = Integer.valueOf (51);
     /** ID for send port setting. */
-    public static final Integer SEND_PORT    = Integer.valueOf (52);
+    public static final Integer SEND_PORT           = Integer.valueOf (52);
+    /** ID for bulk mixer messages setting. */
+    public static final Integer BULK_MIXER_MESSAGES = Integer.valueOf (53);
+    /** ID for additional clients setting. */
+    public static final Integer ADDITIONAL_CLIENTS  = Integer.valueOf (54);
 
-    private int                 receivePort  = 8000;
-    private String              sendHost     = DEFAULT_SERVER;
-    private int                 sendPort     = 9000;
+    private int                 receivePort         = 8000;
+    private String              sendHost            = DEFAULT_SERVER;
+    private int                 sendPort            = 9000;
+    private boolean             bulkMixerMessages   = false;
+    private String              additionalClients   = "";
 
 
     /**
@@ -69,6 +80,12 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         });
         sendPortSetting.setEnabled (false);
 
+        final IStringSetting additionalClientsSetting = settingsUI.getStringSetting ("Additional clients, e.g. 192.168.1.2:9000, 192.168.1.3:9000 (Script restart required)", "Send to", 200, "");
+        additionalClientsSetting.addValueObserver (value -> {
+            this.additionalClients = value;
+            this.notifyObservers (ADDITIONAL_CLIENTS);
+        });
+
         ///////////////////////////
         // Accent
 
@@ -80,6 +97,12 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
 
         this.activateEnableVUMetersSetting (settingsUI);
 
+        final IEnumSetting bulkMixerMessagesSetting = settingsUI.getEnumSetting ("Bulk mixer messages (/mixer/vu, /mixer/state)", CATEGORY_WORKFLOW, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        bulkMixerMessagesSetting.addValueObserver (value -> {
+            this.bulkMixerMessages = "On".equals (value);
+            this.notifyObservers (BULK_MIXER_MESSAGES);
+        });
+
         ///////////////////////////
         // Debug
 
@@ -118,4 +141,43 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     {
         return this.sendPort;
     }
+
+
+    /**
+     * Get the hosts and ports of the additional clients to which the extension sends OSC messages
+     * as well.
+     *
+     * @return The host and port pairs, invalid entries are ignored
+     */
+    public List<Pair<String, Integer>> getAdditionalClients ()
+    {
+        final List<Pair<String, Integer>> clients = new ArrayList<> ();
+        for (final String client: this.additionalClients.split (","))
+        {
+            final String [] parts = client.trim ().split (":");
+            if (parts.length != 2 || parts[0].isEmpty ())
+                continue;
+            try
+            {
+                clients.add (new Pair<> (parts[0], Integer.valueOf (parts[1].trim ())));
+            }
+            catch (final NumberFormatException ex)
+            {
+                // Ignore invalid port
+            }
+        }
+        return clients;
+    }
+
+
+    /**
+     * Should the VU and mixer state of the whole track bank be sent as OSC blobs (/mixer/vu and
+     * /mixer/state) instead of individual VU messages per track?
+     *
+     * @return True if enabled
+     */
+    public boolean isEnableBulkMixerMessages ()
+    {
+        return this.bulkMixerMessages;
+    }
 }
@@ -15,10 +15,13 @@ import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ObserverFacet;
+import de.mossgrabers.framework.daw.ObserverSubscriptions;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.utils.Pair;
 
 
 /**
@@ -70,11 +73,16 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     protected void createModel ()
     {
-        this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, 8, 8, 8, 16, 16, false, 8, 8, 8, 16);
+        this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, 8, 8, 8, 16, 16, false, 8, 8, 8, 16, false);
         this.keyManager = new KeyManager (this.model);
         final ITrackBank tb = this.model.getTrackBank ();
         tb.addNoteObserver (this.keyManager);
         tb.addTrackSelectionObserver ( (final int index, final boolean isSelected) -> this.keyManager.clearPressedKeys ());
+
+        // All values are sent to the OSC clients
+        final ObserverSubscriptions subscriptions = this.model.getObserverSubscriptions ();
+        subscriptions.acquire (ObserverFacet.DEVICE_LAYERS, this);
+        subscriptions.acquire (ObserverFacet.BROWSER, this);
     }
 
 
@@ -88,6 +96,9 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         // Send OSC messages
         final IOpenSoundControlServer oscServer = this.host.connectToOSCServer (this.configuration.getSendHost (), this.configuration.getSendPort ());
         this.writer = new OSCWriter (this.host, this.model, oscServer, this.keyManager, this.configuration);
+        for (final Pair<String, Integer> client: this.configuration.getAdditionalClients ())
+            this.writer.addClient (this.host.connectToOSCServer (client.getKey (), client.getValue ().intValue ()));
+        this.writer.start ();
 
         // Receive OSC messages
         this.host.createOSCServer (new OSCParser (this.host, this.model, this.configuration, this.writer, midiInput, this.keyManager), this.configuration.getReceivePort ());
@@ -101,4 +112,14 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         // Initial flush of the whole DAW state
         this.host.scheduleTask ( () -> this.writer.flush (true), 1000);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        this.writer.shutdown ();
+
+        super.exit ();
+    }
 }
@@ -23,6 +23,7 @@ public class KeyManager implements NoteObserver
     private final int [] pressedKeys      = new int [128];
     private int []       keysTranslation  = null;
     private int []       drumsTranslation = null;
+    private boolean      hasChanged       = true;
 
 
     /**
@@ -46,6 +47,7 @@ public class KeyManager implements NoteObserver
     {
         this.drumsTranslation = this.scales.getDrumMatrix ();
         this.keysTranslation = this.scales.getNoteMatrix ();
+        this.hasChanged = true;
     }
 
 
@@ -56,6 +58,7 @@ public class KeyManager implements NoteObserver
     {
         for (int i = 0; i < 128; i++)
             this.pressedKeys[i] = 0;
+        this.hasChanged = true;
     }
 
 
@@ -80,6 +83,7 @@ public class KeyManager implements NoteObserver
     public void setKeyPressed (final int key, final int velocity)
     {
         this.pressedKeys[key] = velocity;
+        this.hasChanged = true;
     }
 
 
@@ -112,7 +116,24 @@ public class KeyManager implements NoteObserver
         for (int i = 0; i < 128; i++)
         {
             if (this.keysTranslation[i] == note)
+            {
                 this.pressedKeys[i] = velocity;
+                this.hasChanged = true;
+            }
         }
     }
+
+
+    /**
+     * Returns true if a key was pressed or released or the note mapping has changed since the last
+     * call of this method.
+     *
+     * @return True if changed
+     */
+    public boolean checkAndResetChanged ()
+    {
+        final boolean changed = this.hasChanged;
+        this.hasChanged = false;
+        return changed;
+    }
 }
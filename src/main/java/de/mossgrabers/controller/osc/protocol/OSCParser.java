@@ -91,7 +91,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
         if (this.parseTransportCommands (command, oscParts, value, numValue))
             return;
 
-        if (this.parseGlobalCommands (command))
+        if (this.parseGlobalCommands (command, values, numValue))
             return;
 
         if (this.parsePanelCommands (command, oscParts, value == null ? null : value.toString ()))
@@ -461,7 +461,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
-    private boolean parseGlobalCommands (final String command)
+    private boolean parseGlobalCommands (final String command, final Object [] values, final int numValue)
     {
         switch (command)
         {
@@ -469,6 +469,25 @@ public class OSCParser extends AbstractOpenSoundControlParser
                 this.writer.flush (true);
                 return true;
 
+            case "refreshClient":
+                // Sends the full state only to the client with the given number with the next flush
+                if (numValue > 0)
+                    this.writer.requestDump (numValue - 1);
+                else
+                    this.host.error ("Missing or invalid client number.");
+                return true;
+
+            case "query":
+                // Sends the cached values of a sub-tree, optionally only to the given client
+                if (values == null || values.length == 0 || values[0] == null)
+                {
+                    this.host.error ("Missing query address.");
+                    return true;
+                }
+                final int clientIndex = values.length > 1 && values[1] instanceof Number ? ((Number) values[1]).intValue () - 1 : -1;
+                this.writer.query (values[0].toString (), clientIndex);
+                return true;
+
             case "undo":
                 this.model.getApplication ().undo ();
                 return true;
@@ -38,7 +38,27 @@ import de.mossgrabers.framework.scale.Scales;
  */
 public class OSCWriter extends AbstractOpenSoundControlWriter
 {
-    private KeyManager keyManager;
+    private static final int    BULK_MIXER_STATE_SIZE = 3;
+    private static final int    BULK_FLAG_EXISTS      = 1;
+    private static final int    BULK_FLAG_MUTE        = 2;
+    private static final int    BULK_FLAG_SOLO        = 4;
+    private static final int    BULK_FLAG_RECARM      = 8;
+
+    private static final String NOTE_ADDRESS          = "/vkb_midi/note/";
+
+    private KeyManager          keyManager;
+    private byte []             vuBlob                = new byte [0];
+    private byte []             mixerStateBlob        = new byte [0];
+
+    private final String []     noteColorAddresses    = new String [127];
+    private final int           colorOff;
+    private final int           colorOctave;
+    private final int           colorNote;
+    private final int           colorOutOfScale;
+    private final int           colorPlay;
+    private final int           colorRecord;
+    private boolean             wasKeyboardEnabled;
+    private boolean             wasRecording;
 
 
     /**
@@ -54,16 +74,23 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         super (host, model, oscServer, configuration);
         this.keyManager = keyManager;
+
+        for (int i = 0; i < this.noteColorAddresses.length; i++)
+            this.noteColorAddresses[i] = NOTE_ADDRESS + i + "/color";
+
+        this.colorOff = toRGB (OSCColors.getColor (Scales.SCALE_COLOR_OFF));
+        this.colorOctave = toRGB (OSCColors.getColor (Scales.SCALE_COLOR_OCTAVE));
+        this.colorNote = toRGB (OSCColors.getColor (Scales.SCALE_COLOR_NOTE));
+        this.colorOutOfScale = toRGB (OSCColors.getColor (Scales.SCALE_COLOR_OUT_OF_SCALE));
+        this.colorPlay = toRGB (OSCColors.COLOR_GREEN);
+        this.colorRecord = toRGB (OSCColors.COLOR_RED);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void flush (final boolean dump)
+    protected void flushValues (final boolean dump)
     {
-        if (!this.isConnected ())
-            return;
-
         //
         // Transport
         //
@@ -127,11 +154,14 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         //
 
         final IChannelBank trackBank = this.model.getCurrentTrackBank ();
+        final boolean isBulkMixer = ((OSCConfiguration) this.configuration).isEnableBulkMixerMessages ();
         for (int i = 0; i < trackBank.getNumTracks (); i++)
-            this.flushTrack ("/track/" + (i + 1) + "/", trackBank.getTrack (i), dump);
-        this.flushTrack ("/master/", this.model.getMasterTrack (), dump);
+            this.flushTrack ("/track/" + (i + 1) + "/", trackBank.getTrack (i), !isBulkMixer, dump);
+        if (isBulkMixer)
+            this.flushMixer ("/mixer/", trackBank, dump);
+        this.flushTrack ("/master/", this.model.getMasterTrack (), true, dump);
         final ITrack selectedTrack = trackBank.getSelectedTrack ();
-        this.flushTrack ("/track/selected/", selectedTrack == null ? EmptyTrackData.INSTANCE : selectedTrack, dump);
+        this.flushTrack ("/track/selected/", selectedTrack == null ? EmptyTrackData.INSTANCE : selectedTrack, true, dump);
         this.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
 
         //
@@ -169,9 +199,7 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         // Notes
         //
 
-        this.flushNotes ("/vkb_midi/note/", dump);
-
-        this.flush ();
+        this.flushNotes (dump);
     }
 
 
@@ -180,9 +208,11 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      *
      * @param trackAddress The start address for the track
      * @param track The track
+     * @param sendVU Send the VU meter of the track, false if it is sent as part of the bulk mixer
+     *            messages
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final String trackAddress, final ITrack track, final boolean sendVU, final boolean dump)
     {
         this.sendOSC (trackAddress + "exists", track.doesExist (), dump);
         final ChannelType type = track.getType ();
@@ -232,7 +262,64 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         this.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
         this.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
 
-        this.sendOSC (trackAddress + "vu", ((OSCConfiguration) this.configuration).isEnableVUMeters () ? track.getVu () : 0, dump);
+        if (sendVU)
+            this.sendOSC (trackAddress + "vu", ((OSCConfiguration) this.configuration).isEnableVUMeters () ? track.getVu () : 0, dump);
+    }
+
+
+    /**
+     * Flush the VU meters and the mixer state of all tracks of the bank as OSC blobs. The VU blob
+     * contains one byte per track. The state blob contains 3 bytes per track: volume, panorama and
+     * flags (1 = exists, 2 = mute, 4 = solo, 8 = record armed). Volume, panorama and VU are scaled
+     * to 0-255.
+     *
+     * @param mixerAddress The start address for the mixer
+     * @param trackBank The track bank
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushMixer (final String mixerAddress, final IChannelBank trackBank, final boolean dump)
+    {
+        final int numTracks = trackBank.getNumTracks ();
+        if (this.vuBlob.length != numTracks)
+        {
+            this.vuBlob = new byte [numTracks];
+            this.mixerStateBlob = new byte [numTracks * BULK_MIXER_STATE_SIZE];
+        }
+
+        final boolean isVU = ((OSCConfiguration) this.configuration).isEnableVUMeters ();
+        for (int i = 0; i < numTracks; i++)
+        {
+            final ITrack track = trackBank.getTrack (i);
+            this.vuBlob[i] = isVU ? this.toByte (track.getVu ()) : 0;
+
+            final int pos = i * BULK_MIXER_STATE_SIZE;
+            this.mixerStateBlob[pos] = this.toByte (track.getVolume ());
+            this.mixerStateBlob[pos + 1] = this.toByte (track.getPan ());
+            int flags = track.doesExist () ? BULK_FLAG_EXISTS : 0;
+            if (track.isMute ())
+                flags |= BULK_FLAG_MUTE;
+            if (track.isSolo ())
+                flags |= BULK_FLAG_SOLO;
+            if (track.isRecArm ())
+                flags |= BULK_FLAG_RECARM;
+            this.mixerStateBlob[pos + 2] = (byte) flags;
+        }
+
+        this.sendOSCBlob (mixerAddress + "vu", this.vuBlob, dump);
+        this.sendOSCBlob (mixerAddress + "state", this.mixerStateBlob, dump);
+    }
+
+
+    /**
+     * Scale a DAW value to an unsigned byte (0-255).
+     *
+     * @param value The DAW value
+     * @return The scaled value
+     */
+    private byte toByte (final int value)
+    {
+        final double normalized = this.model.getValueChanger ().toNormalizedValue (value);
+        return (byte) Math.round (Math.max (0, Math.min (1, normalized)) * 255.0);
     }
 
 
@@ -395,41 +482,54 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
 
 
     /**
-     * Flush all notes.
+     * Flush all notes. The colors are only calculated if a key was pressed or released, the note
+     * mapping has changed or the selected track or recording state has changed.
      *
-     * @param noteAddress The start address for the note
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushNotes (final String noteAddress, final boolean dump)
+    private void flushNotes (final boolean dump)
     {
-        for (int i = 0; i < 127; i++)
-        {
-            final double [] color = this.getNoteColor (i);
-            this.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
-        }
-    }
+        final boolean isKeyboardEnabled = this.model.canSelectedTrackHoldNotes ();
+        final boolean isRecording = this.model.hasRecordingState ();
+        final boolean hasChanged = this.keyManager.checkAndResetChanged () || isKeyboardEnabled != this.wasKeyboardEnabled || isRecording != this.wasRecording;
+        if (!hasChanged && !dump && !this.isCollectingDump ())
+            return;
+        this.wasKeyboardEnabled = isKeyboardEnabled;
+        this.wasRecording = isRecording;
 
+        for (int i = 0; i < this.noteColorAddresses.length; i++)
+            this.sendOSCColor (this.noteColorAddresses[i], this.getNoteColor (i, isKeyboardEnabled, isRecording), dump);
+    }
 
     /**
      * Get the color for a note.
      *
      * @param note The note
-     * @return The color
+     * @param isKeyboardEnabled True if the selected track can hold notes
+     * @param isRecording True if recording is active
+     * @return The color packed into an integer
      */
-    private double [] getNoteColor (final int note)
+    private int getNoteColor (final int note, final boolean isKeyboardEnabled, final boolean isRecording)
     {
-        final boolean isKeyboardEnabled = this.model.canSelectedTrackHoldNotes ();
         if (!isKeyboardEnabled)
-            return OSCColors.getColor (Scales.SCALE_COLOR_OFF);
+            return this.colorOff;
+
+        if (this.keyManager.isKeyPressed (note))
+            return isRecording ? this.colorRecord : this.colorPlay;
+
+        final String colorID = this.model.getScales ().getColor (this.keyManager.getKeyTranslationMatrix (), note);
+        if (Scales.SCALE_COLOR_OCTAVE.equals (colorID))
+            return this.colorOctave;
+        if (Scales.SCALE_COLOR_NOTE.equals (colorID))
+            return this.colorNote;
+        if (Scales.SCALE_COLOR_OUT_OF_SCALE.equals (colorID))
+            return this.colorOutOfScale;
+        return this.colorOff;
+    }
 
-        if (!this.keyManager.isKeyPressed (note))
-        {
-            final Scales scales = this.model.getScales ();
-            final String color = scales.getColor (this.keyManager.getKeyTranslationMatrix (), note);
-            return OSCColors.getColor (color);
-        }
 
-        final boolean isRecording = this.model.hasRecordingState ();
-        return isRecording ? OSCColors.COLOR_RED : OSCColors.COLOR_GREEN;
+    private static int toRGB (final double [] color)
+    {
+        return AbstractOpenSoundControlWriter.toRGB (color[0], color[1], color[2]);
     }
 }
@@ -119,6 +119,7 @@ import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.ObserverFacet;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
@@ -156,6 +157,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         this.colorManager = new ColorManager ();
         PushColors.addColors (this.colorManager, isPush2);
         this.valueChanger = new DefaultValueChanger (1024, 10, 1);
+        this.valueChanger.getIncrementBatcher ().setMaxAcceleration (4);
         this.configuration = new PushConfiguration (host, this.valueChanger, isPush2);
     }
 
@@ -183,11 +185,15 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     @Override
     protected void createModel ()
     {
-        this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, 8, 8, 8, this.isPush2 ? 48 : 16, this.isPush2 ? 48 : 16, false, -1, -1, -1, -1);
+        this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, 8, 8, 8, this.isPush2 ? 48 : 16, this.isPush2 ? 48 : 16, false, -1, -1, -1, -1, true);
 
         final ITrackBank trackBank = this.model.getTrackBank ();
         trackBank.setIndication (true);
         trackBank.addTrackSelectionObserver (this::handleTrackChange);
+
+        // The layers are used by several modes and commands
+        this.model.getObserverSubscriptions ().acquire (ObserverFacet.DEVICE_LAYERS, this);
+
         final IChannelBank effectTrackBank = this.model.getEffectTrackBank ();
         if (effectTrackBank != null)
             effectTrackBank.addTrackSelectionObserver (this::handleTrackChange);
@@ -18,19 +18,19 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 public class PushDisplay extends AbstractDisplay
 {
     /** Push character codes for value bars - a dash. */
-    public static final String     BARS_NON      = Character.toString ((char) 6);
+    public static final String        BARS_NON        = Character.toString ((char) 6);
     /** Push character codes for value bars - one bar. */
-    public static final String     BARS_ONE      = Character.toString ((char) 3);
+    public static final String        BARS_ONE        = Character.toString ((char) 3);
     /** Push character codes for value bars - two bars. */
-    public static final String     BARS_TWO      = Character.toString ((char) 5);
+    public static final String        BARS_TWO        = Character.toString ((char) 5);
     /** Push character codes for value bars - one bar to the left. */
-    private static final String    BARS_ONE_L    = Character.toString ((char) 4);
+    private static final String       BARS_ONE_L      = Character.toString ((char) 4);
     /** Push character codes for value bars - four dashes. */
-    private static final String    NON_4         = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
+    private static final String       NON_4           = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
     /** Push character codes for value bars - the right arrow. */
-    public static final String     RIGHT_ARROW   = Character.toString ((char) 127);
+    public static final String        RIGHT_ARROW     = Character.toString ((char) 127);
 
-    private static final String [] SPACES        =
+    private static final String []    SPACES          =
     {
         "",
         " ",
@@ -48,7 +48,7 @@ public class PushDisplay extends AbstractDisplay
         "             "
     };
 
-    private static final String [] DASHES        =
+    private static final String []    DASHES          =
     {
         "",
         BARS_NON,
@@ -62,7 +62,7 @@ public class PushDisplay extends AbstractDisplay
         BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON
     };
 
-    private static final String [] SYSEX_MESSAGE =
+    private static final String []    SYSEX_MESSAGE   =
     {
         "F0 47 7F 15 18 00 45 00 ",
         "F0 47 7F 15 19 00 45 00 ",
@@ -70,9 +70,35 @@ public class PushDisplay extends AbstractDisplay
         "F0 47 7F 15 1B 00 45 00 "
     };
 
-    private int                    maxParameterValue;
-    private int                    port;
-    private boolean                isPush2;
+    /** The value bar cells for 0-16 bars, for even and odd cells. */
+    private static final String [] [] VALUE_CELLS     = new String [2] [17];
+    /** The panorama bar cells for 0-8 bars to the left, for even and odd cells. */
+    private static final String [] [] PAN_LEFT_CELLS  = new String [2] [9];
+    /** The panorama bar cells for 0-8 bars to the right, for even and odd cells. */
+    private static final String [] [] PAN_RIGHT_CELLS = new String [2] [9];
+
+    static
+    {
+        for (int bars = 0; bars <= 16; bars++)
+        {
+            final String bar = createValueBar (bars);
+            VALUE_CELLS[0][bars] = bar + " ";
+            VALUE_CELLS[1][bars] = bar;
+        }
+        for (int bars = 0; bars <= 8; bars++)
+        {
+            final String left = createPanBar (bars, true);
+            PAN_LEFT_CELLS[0][bars] = left + " ";
+            PAN_LEFT_CELLS[1][bars] = left;
+            final String right = createPanBar (bars, false);
+            PAN_RIGHT_CELLS[0][bars] = right + " ";
+            PAN_RIGHT_CELLS[1][bars] = right;
+        }
+    }
+
+    private int                       maxParameterValue;
+    private int                       port;
+    private boolean                   isPush2;
 
 
     /**
@@ -142,7 +168,7 @@ public class PushDisplay extends AbstractDisplay
     @Override
     public PushDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * 8 + cell] = cell % 2 == 0 ? "         " : "        ";
+        this.setCellText (row * 8 + cell, cell % 2 == 0 ? "         " : "        ");
         return this;
     }
 
@@ -154,12 +180,12 @@ public class PushDisplay extends AbstractDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = pad (value.substring (9), 8, " ");
+            this.setCellText (row * 8 + cell, value.substring (0, 9));
+            this.setCellText (row * 8 + cell + 1, pad (value.substring (9), 8, " "));
         }
         else
         {
-            this.cells[row * 8 + cell] = pad (value, 9, " ");
+            this.setCellText (row * 8 + cell, pad (value, 9, " "));
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -170,7 +196,27 @@ public class PushDisplay extends AbstractDisplay
     @Override
     public PushDisplay setCell (final int row, final int cell, final int value, final Format format)
     {
-        return this.setCell (row, cell, formatStr (value, format, this.maxParameterValue));
+        final String [] [] table;
+        final int bars;
+        switch (format)
+        {
+            case FORMAT_VALUE:
+                table = VALUE_CELLS;
+                bars = Math.max (0, Math.min (16, (int) Math.round (16.0 * value / this.maxParameterValue)));
+                break;
+
+            case FORMAT_PAN:
+                final int middle = this.maxParameterValue / 2;
+                final boolean isLeft = value < middle;
+                table = isLeft ? PAN_LEFT_CELLS : PAN_RIGHT_CELLS;
+                bars = Math.min (8, 16 * (isLeft ? middle - value : value - middle) / this.maxParameterValue);
+                break;
+
+            default:
+                return this.setCell (row, cell, Integer.toString (value));
+        }
+        this.setCellText (row * 8 + cell, table[cell % 2][bars]);
+        return this;
     }
 
 
@@ -178,7 +224,9 @@ public class PushDisplay extends AbstractDisplay
     @Override
     public PushDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * 8 + cell] = pad (value, 8, " ") + (cell % 2 == 0 ? " " : "");
+        final int index = row * 8 + cell;
+        if (!this.restoreCell (index, value))
+            this.storeCell (index, value, pad (value, 8, " ") + (cell % 2 == 0 ? " " : ""));
         return this;
     }
 
@@ -205,23 +253,8 @@ public class PushDisplay extends AbstractDisplay
     }
 
 
-    private static String formatStr (final int value, final Format format, final int maxParam)
-    {
-        switch (format)
-        {
-            case FORMAT_VALUE:
-                return formatValue (value, maxParam);
-            case FORMAT_PAN:
-                return formatPan (value, maxParam);
-            default:
-                return Integer.toString (value);
-        }
-    }
-
-
-    private static String formatValue (final int value, final int maxParam)
+    private static String createValueBar (final int noOfBars)
     {
-        final int noOfBars = (int) Math.round (16.0 * value / maxParam);
         final StringBuilder n = new StringBuilder ();
         for (int j = 0; j < noOfBars / 2; j++)
             n.append (PushDisplay.BARS_TWO);
@@ -231,14 +264,8 @@ public class PushDisplay extends AbstractDisplay
     }
 
 
-    private static String formatPan (final int pan, final int maxParam)
+    private static String createPanBar (final int noOfBars, final boolean isLeft)
     {
-        final int middle = maxParam / 2;
-        if (pan == middle)
-            return PushDisplay.NON_4 + PushDisplay.NON_4;
-        final boolean isLeft = pan < middle;
-        final int pos = isLeft ? middle - pan : pan - middle;
-        final int noOfBars = 16 * pos / maxParam;
         StringBuilder n = new StringBuilder ();
         for (int i = 0; i < noOfBars / 2; i++)
             n.append (BARS_TWO);
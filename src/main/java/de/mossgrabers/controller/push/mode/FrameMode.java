@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IArranger;
 import de.mossgrabers.framework.daw.IMixer;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.Versioned;
 import de.mossgrabers.framework.mode.AbstractMode;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
@@ -233,6 +234,15 @@ public class FrameMode extends BaseMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Versioned [] getDisplayDependencies ()
+    {
+        // The application does not count its changes
+        return null;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay1 ()
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.ICursorClip;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.Versioned;
 
 
 /**
@@ -70,26 +71,32 @@ public class NoteMode extends BaseMode
                     return;
                 final double speed = valueChanger.calcKnobSpeed (value, 1);
                 this.noteLength += speed;
-                this.clip.clearStep (this.step, this.note);
-                this.clip.setStep (this.step, this.note, this.noteVelocity, this.noteLength);
+                this.clip.updateStep (this.step, this.note, this.noteVelocity, this.noteLength);
                 break;
             case 1:
                 if (!this.increaseKnobMovement ())
                     return;
                 final double speed2 = valueChanger.calcKnobSpeed (value, 0.1);
                 this.noteLength += speed2;
-                this.clip.clearStep (this.step, this.note);
-                this.clip.setStep (this.step, this.note, this.noteVelocity, this.noteLength);
+                this.clip.updateStep (this.step, this.note, this.noteVelocity, this.noteLength);
                 break;
             case 2:
                 this.noteVelocity = valueChanger.changeValue (value, this.noteVelocity, 1, 128);
-                this.clip.clearStep (this.step, this.note);
-                this.clip.setStep (this.step, this.note, this.noteVelocity, this.noteLength);
+                this.clip.updateStep (this.step, this.note, this.noteVelocity, this.noteLength);
                 break;
         }
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Versioned [] getDisplayDependencies ()
+    {
+        // Only displays the local note settings
+        return new Versioned [0];
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay1 ()
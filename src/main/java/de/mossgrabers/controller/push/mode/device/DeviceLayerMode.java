@@ -18,6 +18,7 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.Versioned;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -304,6 +305,15 @@ public class DeviceLayerMode extends BaseMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Versioned [] getDisplayDependencies ()
+    {
+        // The VU meters of the layers are not part of the model version
+        return null;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay1 ()
@@ -14,6 +14,7 @@ import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.Versioned;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.mode.AbstractMode;
@@ -104,6 +105,15 @@ public class MasterMode extends BaseMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Versioned [] getDisplayDependencies ()
+    {
+        // The project and the application do not count their changes
+        return null;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay1 ()
@@ -142,5 +142,8 @@ public class PianoView extends PlayView
     {
         this.noteMap = this.model.canSelectedTrackHoldNotes () ? this.scales.getPianoMatrix () : Scales.getEmptyMatrix ();
         this.surface.setKeyTranslationTable (this.noteMap);
+
+        // Light the notes which are still playing on their new pads
+        this.model.getTrackBank ().resendPlayingNotes ();
     }
 }
\ No newline at end of file
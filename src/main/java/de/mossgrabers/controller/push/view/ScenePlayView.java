@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.Versioned;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.AbstractView;
@@ -57,6 +58,15 @@ public class ScenePlayView extends AbstractView<PushControlSurface, PushConfigur
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Versioned [] getGridDependencies ()
+    {
+        // The scenes do not count their changes
+        return null;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void drawGrid ()
@@ -110,11 +110,12 @@ public class SequencerView extends AbstractNoteSequencerView<PushControlSurface,
         // TODO Bugfix required - setStep makes Bitwig hang
         // https://github.com/teotigraphix/Framework4Bitwig/issues/124
         final int x = index % 8;
-        final ICursorClip cursorClip = this.model.getCursorClip (8, 128);
-        final int state = cursorClip.getStep (x, this.noteMap[y]);
+        final ICursorClip cursorClip = this.getClip ();
+        final int row = this.noteMap[y];
+        final int velocity = cursorClip.getStepVelocity (x, row);
         final ModeManager modeManager = this.surface.getModeManager ();
         final NoteMode noteMode = (NoteMode) modeManager.getMode (Modes.MODE_NOTE);
-        noteMode.setValues (cursorClip, x, note, state == 2 ? 1.0 : 0, 127);
+        noteMode.setValues (cursorClip, x, row, cursorClip.getStepDuration (x, row), velocity < 0 ? 127 : velocity);
         modeManager.setActiveMode (Modes.MODE_NOTE);
     }
 
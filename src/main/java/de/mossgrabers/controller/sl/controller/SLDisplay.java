@@ -54,7 +54,7 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public SLDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "         ";
+        this.setCellText (row * this.noOfCells + cell, "         ");
         return this;
     }
 
@@ -66,12 +66,12 @@ public class SLDisplay extends AbstractDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = pad (value.substring (9), 8) + " ";
+            this.setCellText (row * 8 + cell, value.substring (0, 9));
+            this.setCellText (row * 8 + cell + 1, pad (value.substring (9), 8) + " ");
         }
         else
         {
-            this.cells[row * 8 + cell] = pad (value, 9);
+            this.setCellText (row * 8 + cell, pad (value, 9));
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -82,8 +82,7 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), 8) + " ";
-        return this;
+        return this.setCell (row, column, Integer.toString (value));
     }
 
 
@@ -93,7 +92,9 @@ public class SLDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, 8) + " ";
+            final int index = row * this.noOfCells + column;
+            if (!this.restoreCell (index, value))
+                this.storeCell (index, value, padCell (value, 8));
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -123,6 +124,23 @@ public class SLDisplay extends AbstractDisplay
     }
 
 
+    /**
+     * Pad the text to the given length and add a space as separator to the next cell.
+     *
+     * @param str The text to pad
+     * @param length The length of the text
+     * @return The padded text
+     */
+    private static String padCell (final String str, final int length)
+    {
+        final String text = str == null ? "" : str;
+        final int diff = length - text.length ();
+        if (diff < 0)
+            return text.substring (0, length) + " ";
+        return text + SPACES[diff + 1];
+    }
+
+
     private static String pad (final String str, final int length)
     {
         final String text = str == null ? "" : str;
@@ -122,6 +122,7 @@ public class PlayView extends AbstractSequencerView<SLControlSurface, SLConfigur
                 this.model.getPrimaryDevice ().scrollDrumPadsPageUp ();
                 this.offsetY = Scales.DRUM_NOTE_START + this.scales.getDrumOctave () * 16;
                 this.updateNoteMapping ();
+                this.model.getTrackBank ().resendPlayingNotes ();
                 this.surface.getDisplay ().notify (this.scales.getDrumRangeText ());
                 break;
 
@@ -132,6 +133,7 @@ public class PlayView extends AbstractSequencerView<SLControlSurface, SLConfigur
                 this.model.getPrimaryDevice ().scrollDrumPadsPageDown ();
                 this.offsetY = Scales.DRUM_NOTE_START + this.scales.getDrumOctave () * 16;
                 this.updateNoteMapping ();
+                this.model.getTrackBank ().resendPlayingNotes ();
                 this.surface.getDisplay ().notify (this.scales.getDrumRangeText ());
                 break;
 
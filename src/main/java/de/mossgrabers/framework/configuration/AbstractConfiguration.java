@@ -5,14 +5,14 @@
 package de.mossgrabers.framework.configuration;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCounter;
 import de.mossgrabers.framework.scale.Scale;
 import de.mossgrabers.framework.scale.ScaleLayout;
 import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.utils.ObserverList;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 
 /**
@@ -147,7 +147,7 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
     /** The names for clip lengths. */
-    public static final String []                    NEW_CLIP_LENGTH_VALUES      =
+    public static final String []                             NEW_CLIP_LENGTH_VALUES      =
     {
         "1 Beat",
         "2 Beat",
@@ -159,21 +159,21 @@ public abstract class AbstractConfiguration implements Configuration
         "32 Bars"
     };
 
-    private static final String []                   BEHAVIOUR_ON_STOP_VALUES    =
+    private static final String []                            BEHAVIOUR_ON_STOP_VALUES    =
     {
         "Move play cursor",
         "Return to Zero",
         "Pause"
     };
 
-    private static final String []                   ACTIONS_REC_ARMED_PADS      =
+    private static final String []                            ACTIONS_REC_ARMED_PADS      =
     {
         "Start recording",
         "Create new clip",
         "Do nothing"
     };
 
-    protected static final String []                 FOOTSWITCH_VALUES           =
+    protected static final String []                          FOOTSWITCH_VALUES           =
     {
         "Toggle Play",
         "Toggle Record",
@@ -192,7 +192,7 @@ public abstract class AbstractConfiguration implements Configuration
         "Quantize"
     };
 
-    private static final String []                   BROWSER_FILTER_COLUMN_NAMES =
+    private static final String []                            BROWSER_FILTER_COLUMN_NAMES =
     {
         "Collection",
         "Location",
@@ -204,59 +204,60 @@ public abstract class AbstractConfiguration implements Configuration
         "Device"
     };
 
-    private static final String []                   COLUMN_VALUES               =
+    private static final String []                            COLUMN_VALUES               =
     {
         "Hide",
         "Show"
     };
 
     /** The Off/On option. */
-    public static final String []                    ON_OFF_OPTIONS              =
+    public static final String []                             ON_OFF_OPTIONS              =
     {
         "Off",
         "On"
     };
 
-    private IEnumSetting                             scaleBaseSetting;
-    private IEnumSetting                             scaleInKeySetting;
-    private IEnumSetting                             scaleLayoutSetting;
-    private IEnumSetting                             scaleSetting;
-    private IEnumSetting                             enableVUMetersSetting;
-    private IEnumSetting                             displayCrossfaderSetting;
-    private IEnumSetting                             flipSessionSetting;
-    private IEnumSetting                             lockFlipSessionSetting;
-    private IEnumSetting                             accentActiveSetting;
-    private IIntegerSetting                          accentValueSetting;
-    private IIntegerSetting                          quantizeAmountSetting;
-    private IEnumSetting                             newClipLengthSetting;
-
-    private final Map<Integer, Set<SettingObserver>> observers                   = new HashMap<> ();
-    protected IValueChanger                          valueChanger;
-
-    private String                                   scale                       = "Major";
-    private String                                   scaleBase                   = "C";
-    private boolean                                  scaleInKey                  = true;
-    private String                                   scaleLayout                 = "4th ^";
-    private boolean                                  enableVUMeters              = false;
-    private BehaviourOnStop                          behaviourOnStop             = BehaviourOnStop.MOVE_PLAY_CURSOR;
-    protected boolean                                displayCrossfader           = true;
-    private boolean                                  flipSession                 = false;
-    private boolean                                  lockFlipSession             = false;
-    private boolean                                  selectClipOnLaunch          = true;
-    private boolean                                  drawRecordStripe            = true;
-    private int                                      convertAftertouch           = 0;
+    private IEnumSetting                                      scaleBaseSetting;
+    private IEnumSetting                                      scaleInKeySetting;
+    private IEnumSetting                                      scaleLayoutSetting;
+    private IEnumSetting                                      scaleSetting;
+    private IEnumSetting                                      enableVUMetersSetting;
+    private IEnumSetting                                      displayCrossfaderSetting;
+    private IEnumSetting                                      flipSessionSetting;
+    private IEnumSetting                                      lockFlipSessionSetting;
+    private IEnumSetting                                      accentActiveSetting;
+    private IIntegerSetting                                   accentValueSetting;
+    private IIntegerSetting                                   quantizeAmountSetting;
+    private IEnumSetting                                      newClipLengthSetting;
+
+    private final Map<Integer, ObserverList<SettingObserver>> observers                   = new HashMap<> ();
+    private final ChangeCounter                               changes                     = new ChangeCounter ();
+    protected IValueChanger                                   valueChanger;
+
+    private String                                            scale                       = "Major";
+    private String                                            scaleBase                   = "C";
+    private boolean                                           scaleInKey                  = true;
+    private String                                            scaleLayout                 = "4th ^";
+    private boolean                                           enableVUMeters              = false;
+    private BehaviourOnStop                                   behaviourOnStop             = BehaviourOnStop.MOVE_PLAY_CURSOR;
+    protected boolean                                         displayCrossfader           = true;
+    private boolean                                           flipSession                 = false;
+    private boolean                                           lockFlipSession             = false;
+    private boolean                                           selectClipOnLaunch          = true;
+    private boolean                                           drawRecordStripe            = true;
+    private int                                               convertAftertouch           = 0;
     /** Accent button active. */
-    private boolean                                  accentActive                = false;
+    private boolean                                           accentActive                = false;
     /** Fixed velocity value for accent. */
-    private int                                      fixedAccentValue            = 127;
-    private int                                      quantizeAmount              = 1;
-    private boolean                                  flipRecord                  = false;
-    private int                                      newClipLength               = 2;
-    private boolean                                  autoSelectDrum              = false;
-    private boolean                                  turnOffEmptyDrumPads        = false;
-    private int                                      actionForRecArmedPad        = 0;
-    private int                                      footswitch2                 = FOOTSWITCH_2_NEW_BUTTON;
-    private boolean []                               browserDisplayFilter        =
+    private int                                               fixedAccentValue            = 127;
+    private int                                               quantizeAmount              = 1;
+    private boolean                                           flipRecord                  = false;
+    private int                                               newClipLength               = 2;
+    private boolean                                           autoSelectDrum              = false;
+    private boolean                                           turnOffEmptyDrumPads        = false;
+    private int                                               actionForRecArmedPad        = 0;
+    private int                                               footswitch2                 = FOOTSWITCH_2_NEW_BUTTON;
+    private boolean []                                        browserDisplayFilter        =
     {
         true,
         true,
@@ -284,16 +285,24 @@ public abstract class AbstractConfiguration implements Configuration
     @Override
     public void addSettingObserver (final Integer settingID, final SettingObserver observer)
     {
-        Set<SettingObserver> settingObservers = this.observers.get (settingID);
+        ObserverList<SettingObserver> settingObservers = this.observers.get (settingID);
         if (settingObservers == null)
         {
-            settingObservers = new HashSet<> ();
+            settingObservers = new ObserverList<> (new SettingObserver [0]);
             this.observers.put (settingID, settingObservers);
         }
         settingObservers.add (observer);
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        return this.changes.getVersion ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void clearSettingObservers ()
@@ -978,9 +987,13 @@ public abstract class AbstractConfiguration implements Configuration
      */
     protected void notifyObservers (final Integer settingID)
     {
-        final Set<SettingObserver> set = this.observers.get (settingID);
-        if (set != null)
-            set.forEach (SettingObserver::call);
+        this.changes.changed ();
+
+        final ObserverList<SettingObserver> settingObservers = this.observers.get (settingID);
+        if (settingObservers == null)
+            return;
+        for (final SettingObserver observer: settingObservers.getObservers ())
+            observer.call ();
     }
 
 
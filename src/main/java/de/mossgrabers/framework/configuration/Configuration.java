@@ -29,6 +29,14 @@ public interface Configuration
     void clearSettingObservers ();
 
 
+    /**
+     * Get the version of the settings. It is increased every time one of the settings changes.
+     *
+     * @return The version
+     */
+    int getVersion ();
+
+
     /**
      * Get the scale by name.
      *
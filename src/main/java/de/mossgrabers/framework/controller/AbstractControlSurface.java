@@ -9,9 +9,11 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.daw.ChangeCounter;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.TranslationTable;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.View;
@@ -43,6 +45,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected ViewManager                         viewManager           = new ViewManager ();
     protected ModeManager                         modeManager           = new ModeManager ();
+    private final ChangeCounter                   inputChanges          = new ChangeCounter ();
 
     protected int                                 selectButtonId        = -1;
     protected int                                 shiftButtonId         = -1;
@@ -73,6 +76,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     private ButtonEvent []                        gridNoteStates;
     private int []                                gridNoteVelocities;
 
+    private final TranslationTable                keyTable              = new TranslationTable ();
+    private final TranslationTable                velocityTable         = new TranslationTable ();
+
 
     /**
      * Constructor.
@@ -93,7 +99,12 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.output = output;
         this.input = input;
         if (this.input != null)
-            this.input.setMidiCallback (this::handleMidi);
+        {
+            this.input.setMidiCallback ( (status, data1, data2) -> {
+                this.inputChanges.changed ();
+                this.handleMidi (status, data1, data2);
+            });
+        }
 
         this.gridNotes = new int [64];
 
@@ -173,6 +184,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getLocalVersion ()
+    {
+        return this.inputChanges.getVersion () + this.viewManager.getVersion () + this.modeManager.getVersion () + this.configuration.getVersion ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public Display getDisplay ()
@@ -321,12 +340,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void setKeyTranslationTable (final int [] table)
     {
-        if (this.input == null)
-            return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
-        this.input.setKeyTranslationTable (t);
+        if (this.input != null)
+            this.keyTable.set (table);
     }
 
 
@@ -334,12 +349,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void setVelocityTranslationTable (final int [] table)
     {
-        if (this.input == null)
-            return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
-        this.input.setVelocityTranslationTable (t);
+        if (this.input != null)
+            this.velocityTable.set (table);
     }
 
 
@@ -575,11 +586,30 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void flush ()
     {
+        this.flushTranslationTables ();
         this.scheduledFlush ();
         this.redrawGrid ();
     }
 
 
+    /**
+     * Send the key and velocity translation tables to the midi input, if they were changed since
+     * the last flush. Therefore, several updates (e.g. from switching views) result in only one
+     * call to the host.
+     */
+    protected void flushTranslationTables ()
+    {
+        if (this.input == null)
+            return;
+        Integer [] table = this.keyTable.getChangedTable ();
+        if (table != null)
+            this.input.setKeyTranslationTable (table);
+        table = this.velocityTable.getChangedTable ();
+        if (table != null)
+            this.input.setVelocityTranslationTable (table);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void shutdown ()
@@ -649,7 +679,11 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void scheduleTask (final Runnable callback, final long delay)
     {
-        this.host.scheduleTask (callback, delay);
+        // Delayed tasks change the state of views and modes, e.g. a note mapping
+        this.host.scheduleTask ( () -> {
+            this.inputChanges.changed ();
+            callback.run ();
+        }, delay);
     }
 
 
@@ -858,7 +892,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         final View view = this.viewManager.getActiveView ();
         if (view == null)
             return;
-        view.drawGrid ();
+        if (view.isGridRedrawRequired ())
+            view.drawGrid ();
         if (this.pads != null)
             this.pads.flush ();
     }
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.ICursorClip;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.scale.Scales;
@@ -29,7 +30,10 @@ import java.util.List;
  */
 public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C extends Configuration> implements IControllerSetup
 {
-    protected final List<S>       surfaces = new ArrayList<> ();
+    /** The delay in milliseconds after which the deferred initialization is executed. */
+    private static final int      DEFERRED_INIT_DELAY = 100;
+
+    protected final List<S>       surfaces            = new ArrayList<> ();
     protected final IHost         host;
     protected final ISettingsUI   settings;
     protected final ISetupFactory factory;
@@ -99,18 +103,39 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void init ()
     {
-        this.configuration.init (this.settings);
-
-        this.createScales ();
-        this.createModel ();
-        this.createSurface ();
-        this.createModes ();
-        this.createObservers ();
-        this.createViews ();
-        this.registerTriggerCommands ();
-        this.registerContinuousCommands ();
-
-        this.host.println ("Initialized.");
+        final long start = System.nanoTime ();
+        final StringBuilder report = new StringBuilder ();
+
+        this.runPhase ("settings", () -> this.configuration.init (this.settings), report);
+        this.runPhase ("scales", this::createScales, report);
+        this.runPhase ("model", this::createModel, report);
+        this.runPhase ("surface", this::createSurface, report);
+        this.runPhase ("modes", this::createModes, report);
+        this.runPhase ("observers", this::createObservers, report);
+        this.runPhase ("views", this::createViews, report);
+        this.runPhase ("trigger commands", this::registerTriggerCommands, report);
+        this.runPhase ("continuous commands", this::registerContinuousCommands, report);
+
+        this.host.println ("Initialized in " + toMillis (System.nanoTime () - start) + " ms (" + report + ").");
+
+        this.host.scheduleTask ( () -> {
+            final long deferredStart = System.nanoTime ();
+            this.initDeferred ();
+            this.host.println ("Deferred initialization in " + toMillis (System.nanoTime () - deferredStart) + " ms.");
+        }, DEFERRED_INIT_DELAY);
+    }
+
+
+    /**
+     * Called shortly after the initialization, when the controller is already running. Overwrite
+     * to execute work which is not necessary for the start of the controller. Note that the DAW
+     * does not allow to create any banks or cursors at this time, so this is limited to preparing
+     * internal data.
+     */
+    protected void initDeferred ()
+    {
+        // The matrices of the selected scale are created on first use, prepare the others
+        this.scales.generateMatrices ();
     }
 
 
@@ -121,6 +146,16 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.configuration.clearSettingObservers ();
         for (final S surface: this.surfaces)
             surface.shutdown ();
+        if (this.valueChanger != null)
+            this.host.println ("Encoder increments: " + this.valueChanger.getIncrementBatcher ());
+        if (this.model != null)
+        {
+            for (final ICursorClip clip: this.model.getCursorClips ())
+            {
+                if (clip.getStepLatency (true).getCount () > 0)
+                    this.host.println ("Step edits (" + clip.getNumSteps () + "x" + clip.getNumRows () + "): displayed " + clip.getStepLatency (true) + ", confirmed " + clip.getStepLatency (false) + ", " + clip.getNumRolledBackSteps () + " rolled back");
+            }
+        }
         this.host.println ("Exited.");
     }
 
@@ -132,6 +167,13 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     {
         for (final S surface: this.surfaces)
             surface.flush ();
+
+        // The pending step edits are displayed now
+        if (this.model != null)
+        {
+            for (final ICursorClip clip: this.model.getCursorClips ())
+                clip.recordDisplayedSteps ();
+        }
     }
 
 
@@ -288,6 +330,29 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Execute a phase of the initialization and add its duration to the report.
+     *
+     * @param name The name of the phase
+     * @param phase The phase to execute
+     * @param report Where to add the duration
+     */
+    private void runPhase (final String name, final Runnable phase, final StringBuilder report)
+    {
+        final long start = System.nanoTime ();
+        phase.run ();
+        if (report.length () > 0)
+            report.append (", ");
+        report.append (name).append (' ').append (toMillis (System.nanoTime () - start)).append (" ms");
+    }
+
+
+    private static long toMillis (final long nanos)
+    {
+        return nanos / 1000000;
+    }
+
+
     /**
      * Update the active views note mapping.
      */
@@ -11,10 +11,11 @@ package de.mossgrabers.framework.controller;
  */
 public class DefaultValueChanger implements IValueChanger
 {
-    private final int    upperBound;
-    private final int    fractionValue;
-    private final double slowFractionValue;
-    private boolean      isSlow;
+    private final int              upperBound;
+    private final int              fractionValue;
+    private final double           slowFractionValue;
+    private boolean                isSlow;
+    private final IncrementBatcher incrementBatcher = new IncrementBatcher ();
 
 
     /**
@@ -153,4 +154,12 @@ public class DefaultValueChanger implements IValueChanger
     {
         return (int) Math.round (value * (this.getUpperBound () - 1));
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IncrementBatcher getIncrementBatcher ()
+    {
+        return this.incrementBatcher;
+    }
 }
@@ -46,6 +46,16 @@ public interface IControlSurface<C extends Configuration>
     C getConfiguration ();
 
 
+    /**
+     * Get the version of the local state of the surface. It is increased by all changes which are
+     * not caused by the DAW: midi input from the surface, mode and view switches, settings and
+     * the execution of scheduled tasks.
+     *
+     * @return The version
+     */
+    int getLocalVersion ();
+
+
     /**
      * Get the interface to the display if the controller does have one.
      *
@@ -446,7 +456,7 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Schedule a task.
+     * Schedule a task. The execution of the task counts as a change of the local state.
      *
      * @param callback The code to delay
      * @param delay The time in ms how long to delay the execution of the task
@@ -33,9 +33,11 @@ public interface ISetupFactory
      * @param numDevicesInBank The number of devices to monitor
      * @param numDeviceLayers The number of device layers to monitor
      * @param numDrumPadLayers The number of drum pad layers to monitor
+     * @param hasDrumDevice64 Creates the additional cursor device with 64 drum pads, which is only
+     *            required by the 64 pad drum views
      * @return The model
      */
-    IModel createModel (final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final int numTracks, final int numScenes, final int numSends, final int numFilterColumnEntries, final int numResults, final boolean hasFlatTrackList, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers);
+    IModel createModel (final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final int numTracks, final int numScenes, final int numSends, final int numFilterColumnEntries, final int numResults, final boolean hasFlatTrackList, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers, final boolean hasDrumDevice64);
 
 
     /**
@@ -152,4 +152,13 @@ public interface IValueChanger
      * @return The midi value
      */
     int fromNormalizedValue (double value);
+
+
+    /**
+     * Get the batcher which collects the increments of the values changed by relative encoders
+     * until the next flush.
+     *
+     * @return The batcher
+     */
+    IncrementBatcher getIncrementBatcher ();
 }
@@ -0,0 +1,90 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * Sums up the increments of one value until they are sent to the DAW by the increment batcher.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class IncrementAccumulator
+{
+    private final IncrementBatcher batcher;
+    private final DoubleConsumer   sender;
+
+    private double                 increment;
+    private boolean                isQueued;
+    private long                   lastTick;
+
+
+    /**
+     * Constructor.
+     *
+     * @param batcher The batcher which sends the increments
+     * @param sender Sends the summed up increment to the DAW
+     */
+    IncrementAccumulator (final IncrementBatcher batcher, final DoubleConsumer sender)
+    {
+        this.batcher = batcher;
+        this.sender = sender;
+    }
+
+
+    /**
+     * Add an increment.
+     *
+     * @param value The increment
+     * @param accelerate If true, the increment is accelerated depending on the time since the
+     *            previous increment, use for encoder turns
+     */
+    public void add (final double value, final boolean accelerate)
+    {
+        double inc = value;
+        if (accelerate)
+        {
+            final long now = System.nanoTime ();
+            if (this.lastTick != 0)
+                inc *= this.batcher.getAcceleration (now - this.lastTick);
+            this.lastTick = now;
+        }
+
+        this.increment += inc;
+        this.batcher.countIncrement ();
+        if (!this.isQueued)
+        {
+            this.isQueued = true;
+            this.batcher.queue (this);
+        }
+    }
+
+
+    /**
+     * Drop the increments which were not sent yet, e.g. because the value is set directly.
+     */
+    public void cancel ()
+    {
+        this.increment = 0;
+    }
+
+
+    /**
+     * Send the summed up increment.
+     *
+     * @return True if something was sent
+     */
+    boolean send ()
+    {
+        this.isQueued = false;
+        if (this.increment == 0)
+            return false;
+        final double value = this.increment;
+        this.increment = 0;
+        this.sender.accept (value);
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * Collects the increments of all values (e.g. parameters) which are changed by relative encoders.
+ * The increments of a value are summed up until the next flush and then sent to the DAW with a
+ * single call. Fast turns of an encoder are accelerated.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class IncrementBatcher
+{
+    /** Ticks which are closer than this are accelerated with the maximum factor (nanoseconds). */
+    private static final long                FAST_INTERVAL   = 15000000L;
+    /** Ticks which are further apart than this are not accelerated (nanoseconds). */
+    private static final long                SLOW_INTERVAL   = 80000000L;
+
+    private final List<IncrementAccumulator> pending         = new ArrayList<> ();
+    private double                           maxAcceleration = 1;
+
+    private long                             startTime;
+    private long                             numIncrements;
+    private long                             numHostCalls;
+
+
+    /**
+     * Set the maximum acceleration of fast encoder turns.
+     *
+     * @param maxAcceleration The factor by which the increments of the fastest turns are
+     *            multiplied, 1 disables the acceleration
+     */
+    public void setMaxAcceleration (final double maxAcceleration)
+    {
+        this.maxAcceleration = Math.max (1, maxAcceleration);
+    }
+
+
+    /**
+     * Get the maximum acceleration of fast encoder turns.
+     *
+     * @return The factor by which the increments of the fastest turns are multiplied
+     */
+    public double getMaxAcceleration ()
+    {
+        return this.maxAcceleration;
+    }
+
+
+    /**
+     * Create an accumulator for a value.
+     *
+     * @param sender Sends the summed up increment to the DAW
+     * @return The accumulator
+     */
+    public IncrementAccumulator createAccumulator (final DoubleConsumer sender)
+    {
+        return new IncrementAccumulator (this, sender);
+    }
+
+
+    /**
+     * Send the summed up increments of all changed values to the DAW. Call once per flush.
+     */
+    public void flush ()
+    {
+        if (this.pending.isEmpty ())
+            return;
+        for (final IncrementAccumulator accumulator: this.pending)
+        {
+            if (accumulator.send ())
+                this.numHostCalls++;
+        }
+        this.pending.clear ();
+    }
+
+
+    /**
+     * Get the number of calls to the DAW per second since the first increment.
+     *
+     * @return The number of calls per second
+     */
+    public double getHostCallsPerSecond ()
+    {
+        final long duration = System.nanoTime () - this.startTime;
+        return this.numIncrements == 0 || duration <= 0 ? 0 : this.numHostCalls * 1000000000.0 / duration;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return String.format (Locale.US, "%d increments, %d host calls, %.1f calls per second", Long.valueOf (this.numIncrements), Long.valueOf (this.numHostCalls), Double.valueOf (this.getHostCallsPerSecond ()));
+    }
+
+
+    /**
+     * Calculate the acceleration for a tick.
+     *
+     * @param interval The time since the previous tick of the same value in nanoseconds
+     * @return The factor to multiply the increment with
+     */
+    double getAcceleration (final long interval)
+    {
+        if (this.maxAcceleration <= 1 || interval >= SLOW_INTERVAL)
+            return 1;
+        if (interval <= FAST_INTERVAL)
+            return this.maxAcceleration;
+        final double position = (double) (SLOW_INTERVAL - interval) / (SLOW_INTERVAL - FAST_INTERVAL);
+        return 1 + (this.maxAcceleration - 1) * position;
+    }
+
+
+    /**
+     * Queue an accumulator which received its first increment since the last flush.
+     *
+     * @param accumulator The accumulator
+     */
+    void queue (final IncrementAccumulator accumulator)
+    {
+        this.pending.add (accumulator);
+    }
+
+
+    /**
+     * Count an added increment.
+     */
+    void countIncrement ()
+    {
+        if (this.numIncrements == 0)
+            this.startTime = System.nanoTime ();
+        this.numIncrements++;
+    }
+}
@@ -16,22 +16,28 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 public abstract class AbstractDisplay implements Display
 {
     /** Time to keep a notification displayed in ms. */
-    public static final int NOTIFICATION_TIME = 1000;
+    public static final int  NOTIFICATION_TIME = 1000;
 
-    protected IHost         host;
-    protected IMidiOutput   output;
+    protected IHost          host;
+    protected IMidiOutput    output;
 
-    protected int           noOfLines;
-    protected int           noOfCells;
-    protected int           noOfCharacters;
+    protected int            noOfLines;
+    protected int            noOfCells;
+    protected int            noOfCharacters;
 
-    protected final String  emptyLine;
-    protected String        notificationMessage;
-    protected boolean       isNotificationActive;
+    protected final String   emptyLine;
+    protected String         notificationMessage;
+    protected boolean        isNotificationActive;
 
-    protected String []     currentMessage;
-    protected String []     message;
-    protected String []     cells;
+    protected String []      currentMessage;
+    protected String []      message;
+    protected String []      cells;
+
+    private final String []  cellSources;
+    private final String []  cellResults;
+    private final String []  composedCells;
+    private final boolean [] dirtyRows;
+    private int              notificationID;
 
 
     /**
@@ -63,6 +69,58 @@ public abstract class AbstractDisplay implements Display
 
         this.message = new String [this.noOfLines];
         this.cells = new String [this.noOfLines * this.noOfCells];
+        this.cellSources = new String [this.cells.length];
+        this.cellResults = new String [this.cells.length];
+        this.composedCells = new String [this.cells.length];
+        this.dirtyRows = new boolean [this.noOfLines];
+    }
+
+
+    /**
+     * Set the text of a cell and mark its row as touched. Since the modes clear the display before
+     * they set the cells, the cells are only compared with the ones of the last composed row when
+     * done() is called. Therefore, a cell which is cleared and set to the same text again does not
+     * change the row.
+     *
+     * @param index The index of the cell
+     * @param text The formatted text
+     */
+    protected void setCellText (final int index, final String text)
+    {
+        this.cells[index] = text;
+        this.dirtyRows[index / this.noOfCells] = true;
+    }
+
+
+    /**
+     * Set a cell to the text which was formatted for it before, if the text did not change. Since
+     * the same texts are set on every flush this saves formatting (and allocating) them again.
+     *
+     * @param index The index of the cell
+     * @param text The unformatted text
+     * @return True if the cell was set, false if the text needs to be formatted
+     */
+    protected boolean restoreCell (final int index, final String text)
+    {
+        if (text == null || !text.equals (this.cellSources[index]))
+            return false;
+        this.setCellText (index, this.cellResults[index]);
+        return true;
+    }
+
+
+    /**
+     * Set a cell and remember the text from which it was formatted, see restoreCell.
+     *
+     * @param index The index of the cell
+     * @param text The unformatted text
+     * @param formatted The formatted text
+     */
+    protected void storeCell (final int index, final String text, final String formatted)
+    {
+        this.cellSources[index] = text;
+        this.cellResults[index] = formatted;
+        this.setCellText (index, formatted);
     }
 
 
@@ -71,6 +129,11 @@ public abstract class AbstractDisplay implements Display
     public AbstractDisplay setRow (final int row, final String str)
     {
         this.message[row] = str;
+        // Let the next call to done() compose the row from the cells again
+        final int index = row * this.noOfCells;
+        for (int i = 0; i < this.noOfCells; i++)
+            this.composedCells[index + i] = null;
+        this.dirtyRows[row] = true;
         return this;
     }
 
@@ -89,8 +152,8 @@ public abstract class AbstractDisplay implements Display
     @Override
     public AbstractDisplay clearRow (final int row)
     {
-        for (int i = 0; i < 4; i++)
-            this.clearBlock (row, i);
+        for (int i = 0; i < this.noOfCells; i++)
+            this.clearCell (row, i);
         return this;
     }
 
@@ -120,10 +183,29 @@ public abstract class AbstractDisplay implements Display
     @Override
     public AbstractDisplay done (final int row)
     {
+        if (!this.dirtyRows[row] && this.message[row] != null)
+            return this;
+        this.dirtyRows[row] = false;
+
+        // Only compose the row if a cell differs from the last composition
         final int index = row * this.noOfCells;
-        this.message[row] = "";
+        boolean hasChanged = this.message[row] == null;
+        for (int i = 0; i < this.noOfCells; i++)
+        {
+            final String cell = this.cells[index + i];
+            if (cell != this.composedCells[index + i] && (cell == null || !cell.equals (this.composedCells[index + i])))
+            {
+                this.composedCells[index + i] = cell;
+                hasChanged = true;
+            }
+        }
+        if (!hasChanged)
+            return this;
+
+        final StringBuilder sb = new StringBuilder (this.noOfCharacters);
         for (int i = 0; i < this.noOfCells; i++)
-            this.message[row] += this.cells[index + i];
+            sb.append (this.cells[index + i]);
+        this.message[row] = sb.toString ();
         return this;
     }
 
@@ -164,37 +246,71 @@ public abstract class AbstractDisplay implements Display
         this.notificationMessage = (padding + message + padding).substring (0, this.noOfCharacters);
         this.isNotificationActive = true;
         this.flush ();
+
+        // Only the latest notification removes the overlay and restores the rows
+        final int id = ++this.notificationID;
         this.host.scheduleTask ( () -> {
+            if (id != this.notificationID)
+                return;
             this.isNotificationActive = false;
-            this.forceFlush ();
+            this.flush ();
         }, AbstractDisplay.NOTIFICATION_TIME);
     }
 
 
-    /** {@inheritDoc} */
+    /**
+     * Sends only the rows and characters which differ from the content of the display. An active
+     * notification is an overlay over the rows, the rows are kept up to date underneath it.
+     */
     @Override
     public void flush ()
     {
-        if (this.isNotificationActive)
-        {
-            this.writeLine (0, this.notificationMessage);
-            for (int row = 1; row < this.noOfLines; row++)
-                this.writeLine (row, this.emptyLine);
-            return;
-        }
-
         for (int row = 0; row < this.noOfLines; row++)
         {
+            final String text;
+            if (this.isNotificationActive)
+                text = row == 0 ? this.notificationMessage : this.emptyLine;
+            else
+                text = this.message[row];
+
             // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
+            final String current = this.currentMessage[row];
+            if (text == null || text.equals (current))
                 continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.writeLine (row, this.currentMessage[row]);
+            this.currentMessage[row] = text;
+
+            if (current == null || current.length () != text.length ())
+            {
+                this.writeLine (row, text);
+                continue;
+            }
+
+            int start = 0;
+            while (current.charAt (start) == text.charAt (start))
+                start++;
+            int end = text.length ();
+            while (current.charAt (end - 1) == text.charAt (end - 1))
+                end--;
+            this.writeRange (row, text, start, end);
         }
     }
 
 
+    /**
+     * Write the changed part of a row to the display. The default implementation sends the whole
+     * row, displays which can address single characters should overwrite it.
+     *
+     * @param row The row
+     * @param text The text of the whole row
+     * @param start The index of the first changed character
+     * @param end The index after the last changed character
+     */
+    protected void writeRange (final int row, final String text, final int start, final int end)
+    {
+        this.writeLine (row, text);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void forceFlush ()
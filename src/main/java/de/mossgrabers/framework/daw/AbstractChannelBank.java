@@ -7,10 +7,9 @@ package de.mossgrabers.framework.daw;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.utils.ObserverList;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.BitSet;
 
 
 /**
@@ -20,21 +19,24 @@ import java.util.Set;
  */
 public abstract class AbstractChannelBank implements IChannelBank
 {
-    protected static final int                  NOTE_OFF      = 0;
-    protected static final int                  NOTE_ON       = 1;
-    protected static final int                  NOTE_ON_NEW   = 2;
+    protected int                                        numTracks;
+    protected int                                        numScenes;
+    protected int                                        numSends;
 
-    protected int                               numTracks;
-    protected int                               numScenes;
-    protected int                               numSends;
+    protected ITrack []                                  tracks;
+    protected ISceneBank                                 sceneBank;
 
-    protected ITrack []                         tracks;
-    protected ISceneBank                        sceneBank;
+    protected final IValueChanger                        valueChanger;
+    protected final ObserverList<NoteObserver>           noteObservers      = new ObserverList<> (new NoteObserver [0]);
+    protected final ObserverList<TrackSelectionObserver> observers          = new ObserverList<> (new TrackSelectionObserver [0]);
+    protected final ChangeCounter                        changes            = new ChangeCounter ();
+    protected final long [] []                           playingNotes;
 
-    protected final IValueChanger               valueChanger;
-    protected final Set<NoteObserver>           noteObservers = new HashSet<> ();
-    protected final Set<TrackSelectionObserver> observers     = new HashSet<> ();
-    protected final int [] []                   noteCache;
+    protected int                                        selectedTrackIndex = -1;
+    protected int                                        scrollTarget       = -1;
+    protected boolean                                    isFlat;
+    private final BitSet                                 recordingSlots;
+    private int                                          numRecordingSlots;
 
 
     /**
@@ -53,12 +55,10 @@ public abstract class AbstractChannelBank implements IChannelBank
         this.numScenes = numScenes;
         this.numSends = numSends;
 
-        this.noteCache = new int [numTracks] [];
-        for (int i = 0; i < numTracks; i++)
-        {
-            this.noteCache[i] = new int [128];
-            Arrays.fill (this.noteCache[i], NOTE_OFF);
-        }
+        this.recordingSlots = new BitSet (numTracks * numScenes);
+
+        // Two bit sets of 64 notes for each track
+        this.playingNotes = new long [numTracks] [2];
     }
 
 
@@ -78,7 +78,7 @@ public abstract class AbstractChannelBank implements IChannelBank
      */
     protected void notifyTrackSelectionObservers (final int trackIndex, final boolean isSelected)
     {
-        for (final TrackSelectionObserver observer: this.observers)
+        for (final TrackSelectionObserver observer: this.observers.getObservers ())
             observer.call (trackIndex, isSelected);
     }
 
@@ -87,15 +87,25 @@ public abstract class AbstractChannelBank implements IChannelBank
     @Override
     public boolean isClipRecording ()
     {
-        for (int t = 0; t < this.numTracks; t++)
-        {
-            for (int s = 0; s < this.numScenes; s++)
-            {
-                if (this.tracks[t].getSlot (s).isRecording ())
-                    return true;
-            }
-        }
-        return false;
+        return this.numRecordingSlots > 0;
+    }
+
+
+    /**
+     * Update the number of recording slots. Needs to be called from the recording observers of all
+     * slots of the bank.
+     *
+     * @param trackIndex The index of the track
+     * @param sceneIndex The index of the slot on the track
+     * @param isRecording True if the slot is now recording
+     */
+    protected void handleSlotRecording (final int trackIndex, final int sceneIndex, final boolean isRecording)
+    {
+        final int index = trackIndex * this.numScenes + sceneIndex;
+        if (this.recordingSlots.get (index) == isRecording)
+            return;
+        this.recordingSlots.set (index, isRecording);
+        this.numRecordingSlots += isRecording ? 1 : -1;
     }
 
 
@@ -111,12 +121,7 @@ public abstract class AbstractChannelBank implements IChannelBank
     @Override
     public ITrack getSelectedTrack ()
     {
-        for (int i = 0; i < this.numTracks; i++)
-        {
-            if (this.tracks[i].isSelected ())
-                return this.tracks[i];
-        }
-        return null;
+        return this.selectedTrackIndex < 0 ? null : this.tracks[this.selectedTrackIndex];
     }
 
 
@@ -224,6 +229,22 @@ public abstract class AbstractChannelBank implements IChannelBank
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getScrollTarget ()
+    {
+        return this.scrollTarget;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFlat ()
+    {
+        return this.isFlat;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getScenePosition ()
@@ -240,6 +261,57 @@ public abstract class AbstractChannelBank implements IChannelBank
     }
 
 
+    /**
+     * Update the playing notes of a track and notify all registered note observers about the notes
+     * which started or stopped playing. Notes which continue playing are not sent again.
+     *
+     * @param index The index of the track
+     * @param notes The bit sets of the currently playing notes (notes 0-63 and 64-127)
+     * @param velocities The velocities of the currently playing notes, indexed by the note
+     */
+    protected void updatePlayingNotes (final int index, final long [] notes, final int [] velocities)
+    {
+        final long [] playing = this.playingNotes[index];
+        synchronized (playing)
+        {
+            for (int i = 0; i < 2; i++)
+            {
+                final long changed = playing[i] ^ notes[i];
+                if (changed == 0)
+                    continue;
+                playing[i] = notes[i];
+
+                long bits = changed;
+                while (bits != 0)
+                {
+                    final int bit = Long.numberOfTrailingZeros (bits);
+                    bits &= bits - 1;
+                    final int note = i * 64 + bit;
+                    this.notifyNoteObservers (note, (notes[i] & 1L << bit) == 0 ? 0 : velocities[note]);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Forget the playing notes of all tracks without notifying the note observers. Must be called
+     * if the selected track changes or the bank is scrolled, since the views clear their notes in
+     * that case and the notes of the (new) selected track must be sent again.
+     */
+    protected void clearPlayingNotes ()
+    {
+        for (final long [] playing: this.playingNotes)
+        {
+            synchronized (playing)
+            {
+                playing[0] = 0;
+                playing[1] = 0;
+            }
+        }
+    }
+
+
     /**
      * Notify all registered note observers.
      *
@@ -248,11 +320,25 @@ public abstract class AbstractChannelBank implements IChannelBank
      */
     protected void notifyNoteObservers (final int note, final int velocity)
     {
-        for (final NoteObserver noteObserver: this.noteObservers)
+        this.changes.changed ();
+        for (final NoteObserver noteObserver: this.noteObservers.getObservers ())
             noteObserver.call (note, velocity);
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        // The counter of the bank is increased by the playing notes. The sum increases with each
+        // change of the tracks, including their VU meters, as well
+        int version = this.changes.getVersion ();
+        for (final ITrack track: this.tracks)
+            version += track.getVersion () + track.getVuVersion ();
+        return version;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getNumTracks ()
@@ -7,12 +7,13 @@ package de.mossgrabers.framework.daw;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
+import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.scale.Scales;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -30,6 +31,7 @@ public abstract class AbstractModel implements IModel
     protected IGroove                  groove;
     protected IProject                 project;
     protected IBrowser                 browser;
+    protected ITrackMetadataCache      trackMetadataCache;
 
     protected IChannelBank             currentTrackBank;
     protected ITrackBank               trackBank;
@@ -39,7 +41,10 @@ public abstract class AbstractModel implements IModel
     protected ICursorDevice            primaryDevice;
     protected ICursorDevice            cursorDevice;
     protected ICursorDevice            drumDevice64;
-    protected Map<String, ICursorClip> cursorClips = new HashMap<> ();
+    protected List<ICursorClip>        cursorClips           = new ArrayList<> ();
+    protected ObserverSubscriptions    observerSubscriptions = new ObserverSubscriptions ();
+    protected final ChangeCounter      changes               = new ChangeCounter ();
+    private ICursorClip                defaultCursorClip;
 
     protected Scales                   scales;
     protected ColorManager             colorManager;
@@ -197,19 +202,66 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ObserverSubscriptions getObserverSubscriptions ()
+    {
+        return this.observerSubscriptions;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ICursorClip getCursorClip (final int cols, final int rows)
+    {
+        // Only a few different clip sizes are used, a search is faster than a map lookup and does
+        // not create any objects
+        for (int i = 0; i < this.cursorClips.size (); i++)
+        {
+            final ICursorClip clip = this.cursorClips.get (i);
+            if (clip.getNumSteps () == cols && clip.getNumRows () == rows)
+                return clip;
+        }
+        final ICursorClip clip = this.createCursorClip (cols, rows);
+        this.cursorClips.add (clip);
+        return clip;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ICursorClip getCursorClip ()
     {
-        return this.getCursorClip (this.numTracks, this.numScenes);
+        if (this.defaultCursorClip == null)
+            this.defaultCursorClip = this.getCursorClip (this.numTracks, this.numScenes);
+        return this.defaultCursorClip;
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public List<ICursorClip> getCursorClips ()
+    {
+        return this.cursorClips;
+    }
+
+
+    /**
+     * Create a new cursor clip.
+     *
+     * @param cols The columns of the clip
+     * @param rows The rows of the clip
+     * @return The cursor clip
+     */
+    protected abstract ICursorClip createCursorClip (final int cols, final int rows);
+
+
     /** {@inheritDoc} */
     @Override
     public void toggleCurrentTrackBank ()
     {
         this.currentTrackBank = this.currentTrackBank == this.trackBank && this.effectTrackBank != null ? this.effectTrackBank : this.trackBank;
+        this.changes.changed ();
     }
 
 
@@ -261,6 +313,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ITrackMetadataCache getTrackMetadataCache ()
+    {
+        return this.trackMetadataCache;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean hasSelectedDevice ()
@@ -337,4 +397,28 @@ public abstract class AbstractModel implements IModel
         }
         return false;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        // The sum of the versions of all objects which count their changes increases with each
+        // change of any of them. Unlike in the track versions, the VU meters are included
+        int version = this.changes.getVersion () + this.transport.getVersion ();
+        version += this.masterTrack.getVersion () + this.masterTrack.getVuVersion ();
+        version += this.trackBank.getVersion ();
+        if (this.effectTrackBank != null)
+            version += this.effectTrackBank.getVersion ();
+        version += this.primaryDevice.getVersion () + this.cursorDevice.getVersion ();
+        if (this.drumDevice64 != null)
+            version += this.drumDevice64.getVersion ();
+        for (final IParameter parameter: this.groove.getParameters ())
+            version += parameter.getVersion ();
+        for (final ICursorClip clip: this.cursorClips)
+            version += clip.getVersion ();
+        if (this.trackMetadataCache != null)
+            version += this.trackMetadataCache.getVersion ();
+        return version;
+    }
 }
@@ -0,0 +1,235 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Stores the data of the track metadata cache. The slot states are stored in pages of a fixed
+ * number of tracks and scenes. Only a limited number of pages is kept, the least recently used
+ * page is removed first. A page exists only if its slots were stored, therefore a missing page
+ * means that its slot states are unknown (and not that they are empty).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractTrackMetadataCache implements ITrackMetadataCache
+{
+    /** The maximum number of tracks which are cached. */
+    protected static final int         MAX_TRACKS     = 4096;
+    /** The maximum number of cached pages of slot states. */
+    protected static final int         MAX_SLOT_PAGES = 64;
+
+    private static final double []     NO_COLOR       = new double [3];
+
+    protected final int                pageTracks;
+    protected final int                pageScenes;
+    protected int                      trackCount;
+
+    private String []                  names          = new String [0];
+    private double [] []               colors         = new double [0] [];
+    private final Map<Integer, BitSet> slotPages;
+    private final ChangeCounter        changes        = new ChangeCounter ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param pageTracks The number of tracks of a page of slot states
+     * @param pageScenes The number of scenes of a page of slot states
+     */
+    public AbstractTrackMetadataCache (final int pageTracks, final int pageScenes)
+    {
+        this.pageTracks = pageTracks;
+        this.pageScenes = pageScenes;
+
+        this.slotPages = new LinkedHashMap<Integer, BitSet> (16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<Integer, BitSet> eldest)
+            {
+                return this.size () > MAX_SLOT_PAGES;
+            }
+        };
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        return this.changes.getVersion ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getTrackCount ()
+    {
+        return this.trackCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCached (final int position)
+    {
+        return position >= 0 && position < this.names.length && this.names[position] != null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int position)
+    {
+        return this.isCached (position) ? this.names[position] : "";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double [] getColor (final int position)
+    {
+        return this.isCached (position) ? this.colors[position] : NO_COLOR;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isKnown (final int firstTrack, final int numTracks, final int firstScene, final int numScenes)
+    {
+        final int lastTrack = firstTrack + numTracks - 1;
+        final int lastScene = firstScene + numScenes - 1;
+        for (int trackPage = firstTrack / this.pageTracks; trackPage <= lastTrack / this.pageTracks; trackPage++)
+        {
+            for (int scenePage = firstScene / this.pageScenes; scenePage <= lastScene / this.pageScenes; scenePage++)
+            {
+                if (!this.slotPages.containsKey (this.getPageKey (trackPage, scenePage)))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasContent (final int firstTrack, final int numTracks, final int firstScene, final int numScenes)
+    {
+        final int lastTrack = firstTrack + numTracks - 1;
+        final int lastScene = firstScene + numScenes - 1;
+        for (int trackPage = firstTrack / this.pageTracks; trackPage <= lastTrack / this.pageTracks; trackPage++)
+        {
+            for (int scenePage = firstScene / this.pageScenes; scenePage <= lastScene / this.pageScenes; scenePage++)
+            {
+                final BitSet page = this.slotPages.get (this.getPageKey (trackPage, scenePage));
+                if (page == null)
+                    continue;
+                final int fromTrack = Math.max (firstTrack, trackPage * this.pageTracks) - trackPage * this.pageTracks;
+                final int toTrack = Math.min (lastTrack, (trackPage + 1) * this.pageTracks - 1) - trackPage * this.pageTracks;
+                final int fromScene = Math.max (firstScene, scenePage * this.pageScenes) - scenePage * this.pageScenes;
+                final int toScene = Math.min (lastScene, (scenePage + 1) * this.pageScenes - 1) - scenePage * this.pageScenes;
+                for (int t = fromTrack; t <= toTrack; t++)
+                {
+                    final int next = page.nextSetBit (t * this.pageScenes + fromScene);
+                    if (next >= 0 && next <= t * this.pageScenes + toScene)
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getTrackName (final IChannelBank bank, final int index)
+    {
+        final int target = bank.getScrollTarget ();
+        if (target >= 0 && this.isCached (target + index))
+            return this.names[target + index];
+        return bank.getTrack (index).getName ();
+    }
+
+
+    /**
+     * Set the number of tracks of the flat track list. Data of tracks which no longer exist is
+     * removed.
+     *
+     * @param trackCount The number of tracks
+     */
+    protected void setTrackCount (final int trackCount)
+    {
+        if (this.trackCount != trackCount)
+        {
+            this.trackCount = trackCount;
+            this.changes.changed ();
+        }
+
+        final int size = Math.min (trackCount, MAX_TRACKS);
+        if (size == this.names.length)
+            return;
+        this.names = Arrays.copyOf (this.names, size);
+        this.colors = Arrays.copyOf (this.colors, size);
+    }
+
+
+    /**
+     * Store the data of a track.
+     *
+     * @param position The position of the track in the flat track list
+     * @param name The name of the track
+     * @param color The color of the track
+     */
+    protected void setTrack (final int position, final String name, final double [] color)
+    {
+        if (position < 0 || position >= this.names.length || name.equals (this.names[position]) && Arrays.equals (color, this.colors[position]))
+            return;
+        this.names[position] = name;
+        this.colors[position] = color;
+        this.changes.changed ();
+    }
+
+
+    /**
+     * Store the state of a slot. Creates the page of the slot if necessary, which marks the slots of
+     * the page as known.
+     *
+     * @param track The position of the track in the flat track list
+     * @param scene The index of the scene
+     * @param hasContent True if the slot contains a clip
+     */
+    protected void setSlotContent (final int track, final int scene, final boolean hasContent)
+    {
+        if (track < 0 || track >= MAX_TRACKS || scene < 0)
+            return;
+        final Integer key = this.getPageKey (track / this.pageTracks, scene / this.pageScenes);
+        BitSet page = this.slotPages.get (key);
+        if (page == null)
+        {
+            page = new BitSet (this.pageTracks * this.pageScenes);
+            this.slotPages.put (key, page);
+            this.changes.changed ();
+        }
+        final int bit = track % this.pageTracks * this.pageScenes + scene % this.pageScenes;
+        if (page.get (bit) == hasContent)
+            return;
+        page.set (bit, hasContent);
+        this.changes.changed ();
+    }
+
+
+    private Integer getPageKey (final int trackPage, final int scenePage)
+    {
+        return Integer.valueOf (trackPage << 16 | scenePage);
+    }
+}
@@ -0,0 +1,135 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.daw.data.BrowserColumnItemData;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Caches the names and hit counts of the items of a browser column by their position in the
+ * column. Only a limited number of items is kept, the least recently used item is removed first.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserItemCache
+{
+    private final Map<Integer, Entry> entries;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of cached items
+     */
+    public BrowserItemCache (final int capacity)
+    {
+        this.entries = new LinkedHashMap<Integer, Entry> (capacity, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<Integer, Entry> eldest)
+            {
+                return this.size () > capacity;
+            }
+        };
+    }
+
+
+    /**
+     * Store the name of an item.
+     *
+     * @param position The position of the item in the column
+     * @param name The name
+     */
+    public void storeName (final int position, final String name)
+    {
+        if (position >= 0 && name != null && !name.isEmpty ())
+            this.getEntry (position).name = name;
+    }
+
+
+    /**
+     * Store the hit count of a filter item.
+     *
+     * @param position The position of the item in the column
+     * @param hitCount The number of hits
+     */
+    public void storeHitCount (final int position, final int hitCount)
+    {
+        if (position >= 0)
+            this.getEntry (position).hitCount = hitCount;
+    }
+
+
+    /**
+     * Check if the name of an item is cached.
+     *
+     * @param position The position of the item in the column
+     * @return True if cached
+     */
+    public boolean contains (final int position)
+    {
+        final Entry entry = this.entries.get (Integer.valueOf (position));
+        return entry != null && entry.name != null;
+    }
+
+
+    /**
+     * Fill an item with the cached data.
+     *
+     * @param position The position of the item in the column
+     * @param item The item to fill, gets an empty name if the item is not cached
+     * @return True if the item was cached
+     */
+    public boolean lookup (final int position, final BrowserColumnItemData item)
+    {
+        final Entry entry = this.entries.get (Integer.valueOf (position));
+        if (entry == null || entry.name == null)
+        {
+            item.setName ("");
+            item.setHitCount (0);
+            return false;
+        }
+
+        item.setName (entry.name);
+        item.setHitCount (entry.hitCount);
+        return true;
+    }
+
+
+    /**
+     * Remove all items, e.g. if the content of the column has changed.
+     */
+    public void clear ()
+    {
+        this.entries.clear ();
+    }
+
+
+    private Entry getEntry (final int position)
+    {
+        final Integer key = Integer.valueOf (position);
+        Entry entry = this.entries.get (key);
+        if (entry == null)
+        {
+            entry = new Entry ();
+            this.entries.put (key, entry);
+        }
+        return entry;
+    }
+
+
+    private static class Entry
+    {
+        String name;
+        int    hitCount;
+    }
+}
@@ -0,0 +1,32 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Counts the changes of an object. Only accessed from the controller thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ChangeCounter implements Versioned
+{
+    private int version;
+
+
+    /**
+     * Call when an observed value of the object has changed.
+     */
+    public void changed ()
+    {
+        this.version++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        return this.version;
+    }
+}
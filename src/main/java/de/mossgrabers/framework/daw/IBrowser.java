@@ -6,6 +6,7 @@ package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
+import de.mossgrabers.framework.utils.HitCounter;
 
 
 /**
@@ -225,4 +226,14 @@ public interface IBrowser extends ObserverManagement
      * @return The number oif results.
      */
     int getNumFilterColumnEntries ();
+
+
+    /**
+     * Get the hit and miss counts of the caches of the result and filter column entries. A cursor
+     * move counts as a hit if its target item was cached. Can be used to size the prefetched
+     * window.
+     *
+     * @return The statistics
+     */
+    HitCounter getCacheStatistics ();
 }
\ No newline at end of file
@@ -12,7 +12,7 @@ import de.mossgrabers.framework.daw.data.ITrack;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface IChannelBank extends ObserverManagement
+public interface IChannelBank extends ObserverManagement, Versioned
 {
     /**
      * Registers a track selection observer.
@@ -159,6 +159,24 @@ public interface IChannelBank extends ObserverManagement
     void scrollToChannel (final int channel);
 
 
+    /**
+     * Get the position of the first track of the page to which the bank was scrolled but which
+     * the DAW has not yet confirmed.
+     *
+     * @return The position in the flat track list or -1 if the bank is not scrolling or the target
+     *         is not known
+     */
+    int getScrollTarget ();
+
+
+    /**
+     * Check if the positions of the tracks of the bank are positions in the flat track list.
+     *
+     * @return True if the bank does not navigate into groups
+     */
+    boolean isFlat ();
+
+
     /**
      * Scroll up scenes by 1.
      */
@@ -215,6 +233,13 @@ public interface IChannelBank extends ObserverManagement
     void addNoteObserver (final NoteObserver observer);
 
 
+    /**
+     * Notifies the note observers again about all notes which are currently playing on the
+     * selected track, e.g. after a view has cleared its pressed keys.
+     */
+    void resendPlayingNotes ();
+
+
     /**
      * Get the number of tracks of a bank page.
      *
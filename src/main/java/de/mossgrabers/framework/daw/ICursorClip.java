@@ -4,12 +4,14 @@
 
 package de.mossgrabers.framework.daw;
 
+import de.mossgrabers.framework.utils.LatencyCounter;
+
 /**
  * Interface to the Cursor clip.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface ICursorClip extends ObserverManagement
+public interface ICursorClip extends ObserverManagement, Versioned
 {
     /**
      * Get the color of the clip.
@@ -234,6 +236,54 @@ public interface ICursorClip extends ObserverManagement
     int getStep (int step, int row);
 
 
+    /**
+     * Get the statistics of the time from editing a step (toggle, set, clear) until the result can
+     * be displayed.
+     *
+     * @param withOverlay If true the time until the locally applied (pending) edit was first drawn
+     *            is returned, otherwise the time until Bitwig reported the edited step
+     * @return The latency statistics
+     */
+    LatencyCounter getStepLatency (boolean withOverlay);
+
+
+    /**
+     * Records the latency of the pending step edits which were not drawn before. Call after the
+     * grids of all surfaces were drawn.
+     */
+    void recordDisplayedSteps ();
+
+
+    /**
+     * Get the number of locally applied step edits which were not confirmed by Bitwig and
+     * therefore rolled back.
+     *
+     * @return The number of rolled back edits
+     */
+    int getNumRolledBackSteps ();
+
+
+    /**
+     * Get the velocity of a note which starts at the given step.
+     *
+     * @param step The step
+     * @param row The row
+     * @return The velocity (0-127) or -1 if there is no note start or the velocity is not known
+     */
+    int getStepVelocity (int step, int row);
+
+
+    /**
+     * Get the length of a note which starts at the given step. If the length was not set with this
+     * clip it is calculated from the number of steps on which the note continues playing.
+     *
+     * @param step The step
+     * @param row The row
+     * @return The length of the note in beats or 0 if there is no note start
+     */
+    double getStepDuration (int step, int row);
+
+
     /**
      * Toggle a note at a step.
      *
@@ -255,6 +305,18 @@ public interface ICursorClip extends ObserverManagement
     void setStep (int step, int row, int velocity, double duration);
 
 
+    /**
+     * Change the velocity and length of an existing note. Does nothing if the note already has
+     * these values.
+     *
+     * @param step The step
+     * @param row The note row
+     * @param velocity The new velocity of the note
+     * @param duration The new length of the note
+     */
+    void updateStep (int step, int row, int velocity, double duration);
+
+
     /**
      * Clear a note at a step.
      *
@@ -297,6 +359,28 @@ public interface ICursorClip extends ObserverManagement
     int getUpperRowWithData ();
 
 
+    /**
+     * Get the first step at or after the given step, which contains data (a note starts or
+     * continues playing) in the given row.
+     *
+     * @param row The row
+     * @param step The step to start the search from
+     * @return The index of the step or -1 if there is no such step
+     */
+    int getNextStepWithData (int row, int step);
+
+
+    /**
+     * Get the last step at or before the given step, which contains data (a note starts or
+     * continues playing) in the given row.
+     *
+     * @param row The row
+     * @param step The step to start the search from
+     * @return The index of the step or -1 if there is no such step
+     */
+    int getPreviousStepWithData (int row, int step);
+
+
     /**
      * Set the length of a step.
      *
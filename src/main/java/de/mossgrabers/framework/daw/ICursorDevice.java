@@ -14,7 +14,7 @@ import de.mossgrabers.framework.daw.data.IParameter;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface ICursorDevice extends ObserverManagement
+public interface ICursorDevice extends ObserverManagement, Versioned
 {
     /**
      * Start the browser to replace a device.
@@ -414,6 +414,14 @@ public interface ICursorDevice extends ObserverManagement
     void toggleParameterPageSectionVisible ();
 
 
+    /**
+     * Dis-/Enable the observers of the layers and drum pads of the device.
+     *
+     * @param enable True to enable
+     */
+    void enableLayerObservers (boolean enable);
+
+
     /**
      * Get the layer or drum pad depending on the device.
      *
@@ -11,13 +11,16 @@ import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.scale.Scales;
 
+import java.util.List;
+
 
 /**
- * The interface to all data and access to the DAW.
+ * The interface to all data and access to the DAW. The version of the model is increased with each
+ * change of one of its objects which count their changes (the model epoch).
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface IModel
+public interface IModel extends Versioned
 {
     /**
      * Get the host.
@@ -131,6 +134,14 @@ public interface IModel
     ICursorDevice getDrumDevice64 ();
 
 
+    /**
+     * Get the reference counter for the parts of the model which are only observed on demand.
+     *
+     * @return The subscriptions
+     */
+    ObserverSubscriptions getObserverSubscriptions ();
+
+
     /**
      * Toggles the audio/instrument track bank with the effect track bank.
      */
@@ -193,6 +204,15 @@ public interface IModel
     IBrowser getBrowser ();
 
 
+    /**
+     * Get the cache with the names, colors and clip slot states of all tracks. Needs to be
+     * subscribed with ObserverFacet.TRACK_METADATA to be filled.
+     *
+     * @return The cache
+     */
+    ITrackMetadataCache getTrackMetadataCache ();
+
+
     /**
      * Creates a new track bank for monitoring scenes.
      *
@@ -204,7 +224,8 @@ public interface IModel
 
 
     /***
-     * Create or get a new cursor clip.
+     * Create or get a new cursor clip. Cursor clips can only be created during initialization.
+     * Frequent users should keep the returned clip instead of looking it up again.
      *
      * @param cols The columns of the clip
      * @param rows The rows of the clip
@@ -221,6 +242,14 @@ public interface IModel
     ICursorClip getCursorClip ();
 
 
+    /**
+     * Get all cursor clips which were created.
+     *
+     * @return The cursor clips
+     */
+    List<ICursorClip> getCursorClips ();
+
+
     /**
      * Creates a new clip at the given track and slot index.
      *
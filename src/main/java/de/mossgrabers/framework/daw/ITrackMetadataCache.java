@@ -0,0 +1,85 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * A cache of the names, colors and clip slot states of all tracks of the flat track list. It is
+ * filled in the background and allows to display tracks which are not (yet) in the window of a
+ * track bank.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface ITrackMetadataCache extends ObserverManagement, Versioned
+{
+    /**
+     * Get the number of tracks of the flat track list.
+     *
+     * @return The number of tracks
+     */
+    int getTrackCount ();
+
+
+    /**
+     * Check if the data of a track is in the cache.
+     *
+     * @param position The position of the track in the flat track list
+     * @return True if cached
+     */
+    boolean isCached (int position);
+
+
+    /**
+     * Get the name of a track.
+     *
+     * @param position The position of the track in the flat track list
+     * @return The name or an empty string if not cached
+     */
+    String getName (int position);
+
+
+    /**
+     * Get the color of a track.
+     *
+     * @param position The position of the track in the flat track list
+     * @return The red, green and blue values, black if not cached
+     */
+    double [] getColor (int position);
+
+
+    /**
+     * Check if the slot states of a range of tracks and scenes are known. This is only the case if
+     * the states of all of these slots were stored and are still in the cache.
+     *
+     * @param firstTrack The position of the first track in the flat track list
+     * @param numTracks The number of tracks
+     * @param firstScene The index of the first scene
+     * @param numScenes The number of scenes
+     * @return True if known
+     */
+    boolean isKnown (int firstTrack, int numTracks, int firstScene, int numScenes);
+
+
+    /**
+     * Check if one of the slots of a range of tracks and scenes contains a clip.
+     *
+     * @param firstTrack The position of the first track in the flat track list
+     * @param numTracks The number of tracks
+     * @param firstScene The index of the first scene
+     * @param numScenes The number of scenes
+     * @return True if at least one slot is known to contain a clip
+     */
+    boolean hasContent (int firstTrack, int numTracks, int firstScene, int numScenes);
+
+
+    /**
+     * Get the name of a track of a bank page. If the bank is scrolling and the DAW did not yet
+     * send the data of the new page, the cached name is used.
+     *
+     * @param bank The bank
+     * @param index The index of the track on the bank page
+     * @return The name
+     */
+    String getTrackName (IChannelBank bank, int index);
+}
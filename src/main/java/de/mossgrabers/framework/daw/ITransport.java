@@ -9,7 +9,7 @@ package de.mossgrabers.framework.daw;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface ITransport extends ObserverManagement
+public interface ITransport extends ObserverManagement, Versioned
 {
     /** The names for automation modes. */
     String [] AUTOMATION_MODES        =
@@ -297,6 +297,14 @@ public interface ITransport extends ObserverManagement
     String getBeatText ();
 
 
+    /**
+     * Get the play position in beats (quarter notes).
+     *
+     * @return The play position
+     */
+    double getPosition ();
+
+
     /**
      * Sets the transport playback position to the given beat time value.
      *
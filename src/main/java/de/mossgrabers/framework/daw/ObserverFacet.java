@@ -0,0 +1,22 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Parts of the model which are only observed while a mode, view or controller needs them.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ObserverFacet
+{
+    /** The layers and drum pads of the cursor device. */
+    DEVICE_LAYERS,
+    /** The 64 drum pads of the drum device. */
+    DRUM_PADS_64,
+    /** The filter columns and results of the browser. */
+    BROWSER,
+    /** The names, colors and clip slot states of all tracks. */
+    TRACK_METADATA
+}
@@ -0,0 +1,92 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Reference counts the users of parts of the model (facets). The observers of a facet are only
+ * enabled as long as at least one user has acquired it. Modes and views acquire the facets they
+ * display when they get activated and release them when they get deactivated. Since the users are
+ * tracked it does not matter if a user acquires or releases a facet several times.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ObserverSubscriptions
+{
+    private final Map<ObserverFacet, List<ObserverManagement>> targets = new EnumMap<> (ObserverFacet.class);
+    private final Map<ObserverFacet, Set<Object>>              users   = new EnumMap<> (ObserverFacet.class);
+
+
+    /**
+     * Register the observers of a part of the model for a facet. The observers get disabled until
+     * the facet is acquired.
+     *
+     * @param facet The facet
+     * @param target The object which observers to dis-/enable
+     */
+    public void register (final ObserverFacet facet, final ObserverManagement target)
+    {
+        this.targets.computeIfAbsent (facet, key -> new ArrayList<> ()).add (target);
+        target.enableObservers (this.isSubscribed (facet));
+    }
+
+
+    /**
+     * Acquire a facet. Enables the observers of the facet if it is the first user.
+     *
+     * @param facet The facet
+     * @param user The user of the facet, e.g. a mode
+     */
+    public void acquire (final ObserverFacet facet, final Object user)
+    {
+        final Set<Object> facetUsers = this.users.computeIfAbsent (facet, key -> new HashSet<> ());
+        if (facetUsers.add (user) && facetUsers.size () == 1)
+            this.enable (facet, true);
+    }
+
+
+    /**
+     * Release a facet. Disables the observers of the facet if it was the last user.
+     *
+     * @param facet The facet
+     * @param user The user of the facet, e.g. a mode
+     */
+    public void release (final ObserverFacet facet, final Object user)
+    {
+        final Set<Object> facetUsers = this.users.get (facet);
+        if (facetUsers != null && facetUsers.remove (user) && facetUsers.isEmpty ())
+            this.enable (facet, false);
+    }
+
+
+    /**
+     * Are the observers of a facet enabled?
+     *
+     * @param facet The facet
+     * @return True if at least one user has acquired the facet
+     */
+    public boolean isSubscribed (final ObserverFacet facet)
+    {
+        final Set<Object> facetUsers = this.users.get (facet);
+        return facetUsers != null && !facetUsers.isEmpty ();
+    }
+
+
+    private void enable (final ObserverFacet facet, final boolean enable)
+    {
+        final List<ObserverManagement> list = this.targets.get (facet);
+        if (list == null)
+            return;
+        for (final ObserverManagement target: list)
+            target.enableObservers (enable);
+    }
+}
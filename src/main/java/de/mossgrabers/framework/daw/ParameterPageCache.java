@@ -0,0 +1,266 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Caches the names and values of the parameters of remote control pages. A page is identified by
+ * its device and its index. Only a limited number of pages is kept, the least recently used page is
+ * removed first.
+ *
+ * The page which is shown and the page to which the data is stored are selected separately. Data is
+ * only stored after the DAW has confirmed the device and the page, otherwise data of the previous
+ * page which still arrives would be stored in the wrong page.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ParameterPageCache
+{
+    /** The maximum number of cached pages. */
+    private static final int        MAX_PAGES = 64;
+
+    private final int               numParams;
+    private final Map<String, Page> pages;
+    private String                  shownKey  = "";
+    private Page                    shownPage;
+    private String                  confirmedKey;
+    private Page                    confirmedPage;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numParams The number of parameters of a page
+     */
+    public ParameterPageCache (final int numParams)
+    {
+        this.numParams = numParams;
+        this.pages = new LinkedHashMap<String, Page> (16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<String, Page> eldest)
+            {
+                return this.size () > MAX_PAGES;
+            }
+        };
+    }
+
+
+    /**
+     * Select the page from which the parameter data is read.
+     *
+     * @param device The identification of the device
+     * @param pageIndex The index of the page
+     * @return True if the page has changed
+     */
+    public boolean show (final String device, final int pageIndex)
+    {
+        final String newKey = createKey (device, pageIndex);
+        if (newKey.equals (this.shownKey))
+            return false;
+        this.shownKey = newKey;
+        this.shownPage = this.pages.get (newKey);
+        return true;
+    }
+
+
+    /**
+     * Select the page to which the parameter data is stored. Must only be called with the device
+     * and page which the DAW has confirmed. The page is also shown.
+     *
+     * @param device The identification of the device
+     * @param pageIndex The index of the page
+     * @return True if the page was already shown before
+     */
+    public boolean confirm (final String device, final int pageIndex)
+    {
+        final String newKey = createKey (device, pageIndex);
+        final boolean wasShown = newKey.equals (this.shownKey);
+        this.confirmedKey = newKey;
+        this.confirmedPage = this.pages.get (newKey);
+        this.shownKey = newKey;
+        this.shownPage = this.confirmedPage;
+        return wasShown;
+    }
+
+
+    /**
+     * The device or page is about to change. No data is stored until the next confirmation.
+     */
+    public void unconfirm ()
+    {
+        this.confirmedKey = null;
+        this.confirmedPage = null;
+    }
+
+
+    /**
+     * Check if the DAW has confirmed the page to which the data is stored.
+     *
+     * @return True if confirmed
+     */
+    public boolean isConfirmed ()
+    {
+        return this.confirmedKey != null;
+    }
+
+
+    /**
+     * Check if there is data for the shown page.
+     *
+     * @return True if cached
+     */
+    public boolean isCached ()
+    {
+        return this.shownPage != null;
+    }
+
+
+    /**
+     * Store the name of a parameter of the confirmed page.
+     *
+     * @param index The index of the parameter
+     * @param name The name
+     */
+    public void storeName (final int index, final String name)
+    {
+        if (this.isConfirmed ())
+            this.getPage ().names[index] = name;
+    }
+
+
+    /**
+     * Store the displayed value of a parameter of the confirmed page.
+     *
+     * @param index The index of the parameter
+     * @param displayedValue The displayed value
+     */
+    public void storeDisplayedValue (final int index, final String displayedValue)
+    {
+        if (this.isConfirmed ())
+            this.getPage ().displayedValues[index] = displayedValue;
+    }
+
+
+    /**
+     * Store the value of a parameter of the confirmed page.
+     *
+     * @param index The index of the parameter
+     * @param value The value
+     */
+    public void storeValue (final int index, final int value)
+    {
+        if (this.isConfirmed ())
+            this.getPage ().values[index] = value;
+    }
+
+
+    /**
+     * Store the modulated value of a parameter of the confirmed page.
+     *
+     * @param index The index of the parameter
+     * @param modulatedValue The modulated value
+     */
+    public void storeModulatedValue (final int index, final int modulatedValue)
+    {
+        if (this.isConfirmed ())
+            this.getPage ().modulatedValues[index] = modulatedValue;
+    }
+
+
+    /**
+     * Get the cached name of a parameter of the shown page.
+     *
+     * @param index The index of the parameter
+     * @return The name or null if not cached
+     */
+    public String getName (final int index)
+    {
+        return this.shownPage == null ? null : this.shownPage.names[index];
+    }
+
+
+    /**
+     * Get the cached displayed value of a parameter of the shown page.
+     *
+     * @param index The index of the parameter
+     * @return The displayed value or null if not cached
+     */
+    public String getDisplayedValue (final int index)
+    {
+        return this.shownPage == null ? null : this.shownPage.displayedValues[index];
+    }
+
+
+    /**
+     * Get the cached value of a parameter of the shown page.
+     *
+     * @param index The index of the parameter
+     * @return The value or -1 if not cached
+     */
+    public int getValue (final int index)
+    {
+        return this.shownPage == null ? -1 : this.shownPage.values[index];
+    }
+
+
+    /**
+     * Get the cached modulated value of a parameter of the shown page.
+     *
+     * @param index The index of the parameter
+     * @return The modulated value or -1 if not cached
+     */
+    public int getModulatedValue (final int index)
+    {
+        return this.shownPage == null ? -1 : this.shownPage.modulatedValues[index];
+    }
+
+
+    private Page getPage ()
+    {
+        if (this.confirmedPage == null)
+        {
+            this.confirmedPage = new Page (this.numParams);
+            this.pages.put (this.confirmedKey, this.confirmedPage);
+            if (this.confirmedKey.equals (this.shownKey))
+                this.shownPage = this.confirmedPage;
+        }
+        return this.confirmedPage;
+    }
+
+
+    private static String createKey (final String device, final int pageIndex)
+    {
+        return device + "#" + pageIndex;
+    }
+
+
+    private static class Page
+    {
+        final String [] names;
+        final String [] displayedValues;
+        final int []    values;
+        final int []    modulatedValues;
+
+
+        Page (final int numParams)
+        {
+            this.names = new String [numParams];
+            this.displayedValues = new String [numParams];
+            this.values = new int [numParams];
+            this.modulatedValues = new int [numParams];
+            Arrays.fill (this.values, -1);
+            Arrays.fill (this.modulatedValues, -1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+
+
+/**
+ * Remembers the versions of a number of objects to detect if any of them changed since the last
+ * check. Changes of the local state of a control surface are detected as well.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VersionSnapshot
+{
+    private Versioned [] objects      = new Versioned [0];
+    private int []       versions     = new int [0];
+    private int          localVersion = -1;
+
+
+    /**
+     * Check if any of the given objects or the local state changed since the last call and store
+     * the current versions.
+     *
+     * @param localVersion The version of the local state of the control surface
+     * @param dependencies The objects to check
+     * @return True if something changed or the objects differ from the last call
+     */
+    public boolean update (final int localVersion, final Versioned [] dependencies)
+    {
+        boolean hasChanged = false;
+
+        if (this.localVersion != localVersion)
+        {
+            this.localVersion = localVersion;
+            hasChanged = true;
+        }
+
+        if (this.objects.length != dependencies.length)
+        {
+            this.objects = new Versioned [dependencies.length];
+            this.versions = new int [dependencies.length];
+            Arrays.fill (this.versions, -1);
+        }
+
+        for (int i = 0; i < dependencies.length; i++)
+        {
+            final Versioned object = dependencies[i];
+            final int version = object == null ? 0 : object.getVersion ();
+            if (this.objects[i] != object || this.versions[i] != version)
+            {
+                this.objects[i] = object;
+                this.versions[i] = version;
+                hasChanged = true;
+            }
+        }
+        return hasChanged;
+    }
+}
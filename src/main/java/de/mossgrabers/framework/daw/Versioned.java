@@ -0,0 +1,21 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Interface for objects which count the changes of their observed values.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface Versioned
+{
+    /**
+     * Get the version of the object. It is increased every time one of the observed values of the
+     * object changes.
+     *
+     * @return The version
+     */
+    int getVersion ();
+}
@@ -0,0 +1,133 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * A browser column entry which is not connected to the DAW, e.g. filled from a cache.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserColumnItemData implements IBrowserColumnItem
+{
+    private final int index;
+    private boolean   exists;
+    private String    name = "";
+    private boolean   isSelected;
+    private int       hitCount;
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The index of the item
+     */
+    public BrowserColumnItemData (final int index)
+    {
+        this.index = index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return this.exists;
+    }
+
+
+    /**
+     * Set if the item exists.
+     *
+     * @param exists True if it exists
+     */
+    public void setExists (final boolean exists)
+    {
+        this.exists = exists;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return StringUtils.optimizeName (this.name, limit);
+    }
+
+
+    /**
+     * Set the name of the item.
+     *
+     * @param name The name
+     */
+    public void setName (final String name)
+    {
+        this.name = name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSelected ()
+    {
+        return this.isSelected;
+    }
+
+
+    /**
+     * Set if the item is selected.
+     *
+     * @param isSelected True if selected
+     */
+    public void setSelected (final boolean isSelected)
+    {
+        this.isSelected = isSelected;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHitCount ()
+    {
+        return this.hitCount;
+    }
+
+
+    /**
+     * Set the number of hits of a filter item.
+     *
+     * @param hitCount The number of hits
+     */
+    public void setHitCount (final int hitCount)
+    {
+        this.hitCount = hitCount;
+    }
+}
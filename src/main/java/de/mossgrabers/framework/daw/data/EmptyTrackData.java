@@ -27,6 +27,14 @@ public class EmptyTrackData implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        return 0;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean doesExist ()
@@ -240,6 +248,14 @@ public class EmptyTrackData implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVuVersion ()
+    {
+        return 0;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getNumSends ()
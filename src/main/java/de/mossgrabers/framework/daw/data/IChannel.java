@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.daw.ObserverManagement;
+import de.mossgrabers.framework.daw.Versioned;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 
 
@@ -13,7 +14,7 @@ import de.mossgrabers.framework.daw.resource.ChannelType;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface IChannel extends ObserverManagement
+public interface IChannel extends ObserverManagement, Versioned
 {
     /**
      * Get the index of the channel in the current bank page.
@@ -346,6 +347,15 @@ public interface IChannel extends ObserverManagement
     int getVuRight ();
 
 
+    /**
+     * Get the version of the VU meters. It is increased every time one of the VU values changes.
+     * The VU meters are not part of the version of the channel since they change all the time.
+     *
+     * @return The version
+     */
+    int getVuVersion ();
+
+
     /**
      * Get the number of sends (of a page).
      *
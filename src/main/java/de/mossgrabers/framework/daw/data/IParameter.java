@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.daw.ObserverManagement;
+import de.mossgrabers.framework.daw.Versioned;
 
 
 /**
@@ -12,7 +13,7 @@ import de.mossgrabers.framework.daw.ObserverManagement;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface IParameter extends ObserverManagement
+public interface IParameter extends ObserverManagement, Versioned
 {
     /**
      * De-/Increase the value by the given amount. Scaled by the range given in the constructor.
@@ -0,0 +1,62 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Collects the updates of a key or velocity translation table of a midi input. Only the last
+ * update before a flush is sent and only if it differs from the table which was sent before. The
+ * array which is handed to the midi input is reused.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TranslationTable
+{
+    private int []     pendingTable = new int [0];
+    private int []     sentTable;
+    private Integer [] hostTable    = new Integer [0];
+    private boolean    isPending;
+
+
+    /**
+     * Set a new table. It is not sent before the next call to getChangedTable.
+     *
+     * @param table The table, the content is copied
+     */
+    public void set (final int [] table)
+    {
+        if (this.pendingTable.length != table.length)
+            this.pendingTable = new int [table.length];
+        System.arraycopy (table, 0, this.pendingTable, 0, table.length);
+        this.isPending = true;
+    }
+
+
+    /**
+     * Get the table to send to the midi input.
+     *
+     * @return The table or null if it was not set since the last call or is identical to the one
+     *         which was sent last
+     */
+    public Integer [] getChangedTable ()
+    {
+        if (!this.isPending)
+            return null;
+        this.isPending = false;
+        if (Arrays.equals (this.pendingTable, this.sentTable))
+            return null;
+
+        if (this.sentTable == null || this.sentTable.length != this.pendingTable.length)
+            this.sentTable = new int [this.pendingTable.length];
+        System.arraycopy (this.pendingTable, 0, this.sentTable, 0, this.pendingTable.length);
+        if (this.hostTable.length != this.sentTable.length)
+            this.hostTable = new Integer [this.sentTable.length];
+        for (int i = 0; i < this.sentTable.length; i++)
+            this.hostTable[i] = Integer.valueOf (this.sentTable[i]);
+        return this.hostTable;
+    }
+}
@@ -7,6 +7,8 @@ package de.mossgrabers.framework.mode;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VersionSnapshot;
+import de.mossgrabers.framework.daw.Versioned;
 
 
 /**
@@ -34,6 +36,8 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     protected IModel           model;
     protected boolean          isTemporary;
 
+    private final VersionSnapshot displayVersions = new VersionSnapshot ();
+
 
     /**
      * Constructor.
@@ -103,4 +107,30 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     {
         return this.isTemporary;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDisplayUpdateRequired ()
+    {
+        final Versioned [] dependencies = this.getDisplayDependencies ();
+        return dependencies == null || this.displayVersions.update (this.surface.getLocalVersion (), dependencies);
+    }
+
+
+    /**
+     * Get the model objects which are displayed by the mode. The display is only updated if one of
+     * them or the local state (e.g. a pressed button) has changed. By default, the display depends
+     * on the whole model. Modes which display data which does not count its changes (e.g. the
+     * browser or the scenes) must return null.
+     *
+     * @return The objects or null to always update the display
+     */
+    protected Versioned [] getDisplayDependencies ()
+    {
+        return new Versioned []
+        {
+            this.model
+        };
+    }
 }
\ No newline at end of file
@@ -40,6 +40,15 @@ public interface Mode
     void updateDisplay ();
 
 
+    /**
+     * Check if the display needs to be updated, since something it depends on has changed since
+     * the last call.
+     *
+     * @return True if the display needs to be updated
+     */
+    boolean isDisplayUpdateRequired ();
+
+
     /**
      * Update the first row buttons.
      */
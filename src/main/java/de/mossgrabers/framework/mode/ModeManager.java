@@ -4,9 +4,11 @@
 
 package de.mossgrabers.framework.mode;
 
-import java.util.ArrayList;
+import de.mossgrabers.framework.daw.ChangeCounter;
+import de.mossgrabers.framework.daw.Versioned;
+import de.mossgrabers.framework.utils.ObserverList;
+
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 
@@ -15,15 +17,16 @@ import java.util.Map;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class ModeManager
+public class ModeManager implements Versioned
 {
-    private final Map<Integer, Mode>       modes               = new HashMap<> ();
-    private final List<ModeChangeListener> modeChangeListeners = new ArrayList<> ();
+    private final Map<Integer, Mode>               modes               = new HashMap<> ();
+    private final ChangeCounter                    changes             = new ChangeCounter ();
+    private final ObserverList<ModeChangeListener> modeChangeListeners = new ObserverList<> (new ModeChangeListener [0]);
 
-    private Integer                        activeModeId        = null;
-    private Integer                        previousModeId      = null;
-    private Integer                        temporaryModeId     = null;
-    private Integer                        defaultModeId       = null;
+    private Integer                                activeModeId        = null;
+    private Integer                                previousModeId      = null;
+    private Integer                                temporaryModeId     = null;
+    private Integer                                defaultModeId       = null;
 
 
     /**
@@ -50,6 +53,18 @@ public class ModeManager
     }
 
 
+    /**
+     * Get the version of the active mode. It is increased every time the active mode changes.
+     *
+     * @return The version
+     */
+    @Override
+    public int getVersion ()
+    {
+        return this.changes.getVersion ();
+    }
+
+
     /**
      * Set the active mode. If the mode to activate is only temporary, calling restoreMode sets back
      * the previous active one.
@@ -58,6 +73,8 @@ public class ModeManager
      */
     public void setActiveMode (final Integer modeId)
     {
+        this.changes.changed ();
+
         final Integer id = modeId == null ? this.defaultModeId : modeId;
 
         // Do nothing if already active
@@ -147,6 +164,8 @@ public class ModeManager
      */
     public void restoreMode ()
     {
+        this.changes.changed ();
+
         // Deactivate the current temporary or active mode
         Integer oldModeId = null;
         if (this.temporaryModeId != null)
@@ -211,7 +230,7 @@ public class ModeManager
      */
     private void notifyObservers (final Integer oldMode, final Integer newMode)
     {
-        for (final ModeChangeListener listener: this.modeChangeListeners)
+        for (final ModeChangeListener listener: this.modeChangeListeners.getObservers ())
             listener.call (oldMode, newMode);
     }
 }
@@ -10,27 +10,52 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to one or several OSC servers (clients). During a flush only
+ * the changed values are collected and converted into OSC messages on the controller thread. Only
+ * the sending of the bundles is done on a dedicated sender thread, which is fed by a bounded queue.
+ *
+ * The DAW state is read and compared only once per flush. The changes are sent to all clients which
+ * are in sync. Clients which were added later or requested a refresh get a full dump of all values
+ * collected during the next flush without sending it to the other clients. Furthermore, clients can
+ * query parts of the state, which are answered from the cache of the last sent values.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
+    private static final int                       QUEUE_SIZE   = 32;
+    private static final SendBatch                 STOP         = new SendBatch (Collections.emptyList (), Collections.emptyList ());
+
     protected final IHost                          host;
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlServer        oscServer;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final Map<String, Object>            oldValues    = new HashMap<> ();
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private final TreeMap<String, PendingMessage>  lastMessages = new TreeMap<> ();
+
+    private final List<Client>                     clients      = new ArrayList<> ();
+    private final BlockingQueue<SendBatch>         sendQueue    = new ArrayBlockingQueue<> (QUEUE_SIZE);
+    private final AtomicReference<IOException>     sendError    = new AtomicReference<> ();
+    private List<PendingMessage>                   messages     = new ArrayList<> ();
+    private List<PendingMessage>                   dumpMessages = new ArrayList<> ();
+    private boolean                                isFlushing;
+    private boolean                                isCollectingDump;
+    private Thread                                 senderThread;
 
 
     /**
@@ -47,6 +72,112 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         this.model = model;
         this.oscServer = oscServer;
         this.configuration = configuration;
+
+        if (this.oscServer != null)
+            this.addClient (this.oscServer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void start ()
+    {
+        if (this.oscServer == null || this.senderThread != null)
+            return;
+        this.senderThread = new Thread (this::processSendQueue, "OSC Sender");
+        this.senderThread.setDaemon (true);
+        this.senderThread.start ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        if (this.senderThread == null)
+            return;
+
+        try
+        {
+            if (this.sendQueue.offer (STOP, 1, TimeUnit.SECONDS))
+                this.senderThread.join (1000);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        this.senderThread = null;
+        this.reportSendError ();
+    }
+
+
+    /**
+     * Register an additional OSC server to which all values are sent. The new client receives a
+     * full dump of all values with the next flush.
+     *
+     * @param server The OSC server to add
+     */
+    public void addClient (final IOpenSoundControlServer server)
+    {
+        this.clients.add (new Client (server));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void requestDump (final int clientIndex)
+    {
+        if (clientIndex < 0 || clientIndex >= this.clients.size ())
+        {
+            this.host.error ("Unknown OSC client: " + (clientIndex + 1));
+            return;
+        }
+        this.clients.get (clientIndex).needsDump = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush (final boolean dump)
+    {
+        if (!this.isConnected ())
+            return;
+
+        // A dump is sent to all clients anyway
+        if (dump)
+        {
+            for (final Client client: this.clients)
+                client.needsDump = false;
+        }
+        this.isCollectingDump = !dump && this.hasClientsWhichNeedDump ();
+
+        this.isFlushing = true;
+        this.flushValues (dump);
+        this.isFlushing = false;
+
+        this.flush ();
+    }
+
+
+    /**
+     * Send all values (dump is true) or only the changed values of the DAW state by calling the
+     * sendOSC methods. Note that the methods must also be called for values which are known to be
+     * unchanged if {@link #isCollectingDump()} is true.
+     *
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    protected abstract void flushValues (boolean dump);
+
+
+    /**
+     * Returns true if all values are collected during the current flush since a client requires a
+     * full dump.
+     *
+     * @return True if values are collected for a dump
+     */
+    protected boolean isCollectingDump ()
+    {
+        return this.isCollectingDump;
     }
 
 
@@ -55,17 +186,115 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     public void flush ()
     {
-        try
+        this.reportSendError ();
+
+        if (!this.messages.isEmpty ())
+        {
+            final List<IOpenSoundControlServer> servers = this.getServers (false);
+            if (!servers.isEmpty () && !this.send (this.messages, servers))
+            {
+                // The clients cannot keep up, drop the changes and send everything again with the
+                // next flush
+                for (final Client client: this.clients)
+                    client.needsDump = true;
+                this.host.error ("OSC send queue is full. Dropped the messages of one flush.");
+            }
+            this.messages.clear ();
+        }
+
+        // The dump is complete when the flush of all values has finished
+        if (this.isCollectingDump && !this.isFlushing)
         {
-            this.logMessages (this.messages);
-            this.oscServer.sendBundle (this.messages);
+            if (this.send (this.dumpMessages, this.getServers (true)))
+            {
+                for (final Client client: this.clients)
+                    client.needsDump = false;
+            }
+            this.dumpMessages.clear ();
+            this.isCollectingDump = false;
         }
-        catch (final IOException ex)
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void query (final String pattern, final int clientIndex)
+    {
+        final List<IOpenSoundControlServer> servers;
+        if (clientIndex < 0)
+            servers = this.getServers (false);
+        else if (clientIndex < this.clients.size ())
+            servers = Collections.singletonList (this.clients.get (clientIndex).server);
+        else
         {
-            this.model.getHost ().error ("Could not send UDP message.", ex);
+            this.host.error ("Unknown OSC client: " + (clientIndex + 1));
+            return;
         }
 
-        this.messages.clear ();
+        // Only the addresses starting with the part before the first wildcard need to be checked
+        final int wildcard = pattern.indexOf ('*');
+        final String prefix = wildcard < 0 ? pattern : pattern.substring (0, wildcard);
+        final String [] patternParts = pattern.split ("/");
+        final List<PendingMessage> result = new ArrayList<> ();
+        for (final Map.Entry<String, PendingMessage> entry: this.lastMessages.subMap (prefix, true, prefix + Character.MAX_VALUE, true).entrySet ())
+        {
+            if (matchesAddress (patternParts, entry.getKey ()))
+                result.add (entry.getValue ());
+        }
+
+        if (!result.isEmpty () && !servers.isEmpty () && !this.send (result, servers))
+            this.host.error ("OSC send queue is full. Dropped the answer to the query: " + pattern);
+    }
+
+
+    /**
+     * Tests if the address is part of the sub-tree described by the pattern. A star in the pattern
+     * matches one part of the address.
+     *
+     * @param patternParts The parts of the pattern (split by slash)
+     * @param address The address to test
+     * @return True if the address matches
+     */
+    private static boolean matchesAddress (final String [] patternParts, final String address)
+    {
+        final String [] addressParts = address.split ("/");
+        if (addressParts.length < patternParts.length)
+            return false;
+        for (int i = 0; i < patternParts.length; i++)
+        {
+            if (!"*".equals (patternParts[i]) && !patternParts[i].equals (addressParts[i]))
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Get the servers of all clients which require a dump or which are in sync.
+     *
+     * @param needsDump True to get all clients which require a dump otherwise the ones in sync
+     * @return The servers of the clients
+     */
+    private List<IOpenSoundControlServer> getServers (final boolean needsDump)
+    {
+        final List<IOpenSoundControlServer> servers = new ArrayList<> (this.clients.size ());
+        for (final Client client: this.clients)
+        {
+            if (client.needsDump == needsDump)
+                servers.add (client.server);
+        }
+        return servers;
+    }
+
+
+    private boolean hasClientsWhichNeedDump ()
+    {
+        for (final Client client: this.clients)
+        {
+            if (client.needsDump)
+                return true;
+        }
+        return false;
     }
 
 
@@ -96,11 +325,39 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
 
     protected void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
+    {
+        this.sendOSCColor (address, toRGB (red, green, blue), dump);
+    }
+
+
+    /**
+     * Send a color, which is formatted as rgb(r,g,b) when the message is sent.
+     *
+     * @param address The OSC address
+     * @param rgb The color packed into an integer, see {@link #toRGB(double, double, double)}
+     * @param dump True to dump (ignore cache)
+     */
+    protected void sendOSCColor (final String address, final int rgb, final boolean dump)
+    {
+        final Integer value = Integer.valueOf (rgb);
+        this.queueMessage (address, address, value, value, PendingMessage.TYPE_COLOR, dump);
+    }
+
+
+    /**
+     * Pack a color into an integer (8 bit per color component).
+     *
+     * @param red The red component (0..1)
+     * @param green The green component (0..1)
+     * @param blue The blue component (0..1)
+     * @return The packed color
+     */
+    public static int toRGB (final double red, final double green, final double blue)
     {
         final int r = (int) Math.round (red * 255.0);
         final int g = (int) Math.round (green * 255.0);
         final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        return r << 16 | g << 8 | b;
     }
 
 
@@ -123,9 +380,26 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * Sends the data as an OSC blob, if it differs from the cached data. The data array is copied,
+     * therefore it can be reused by the caller.
+     *
+     * @param address The OSC address
+     * @param data The data of the blob
+     * @param dump True to dump (ignore cache)
+     */
+    protected void sendOSCBlob (final String address, final byte [] data, final boolean dump)
+    {
+        if (!dump && !this.isCollectingDump && compareValues (this.oldValues.get (address), data))
+            return;
+        final byte [] copy = data.clone ();
+        this.queueMessage (address, address, copy, copy, PendingMessage.TYPE_VALUE, dump);
+    }
+
+
     protected void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        this.queueMessage (address, address, value, value, PendingMessage.TYPE_TEXT, dump);
     }
 
 
@@ -146,20 +420,110 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      * @param value The value(s) of the OSC message
      * @param dump True to dump (ignore cache)
      */
-    @SuppressWarnings("unchecked")
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
+        this.queueMessage (cacheAddress, address, testValue, value, PendingMessage.TYPE_VALUE, dump);
+    }
+
+
+    private void queueMessage (final String cacheAddress, final String address, final Object testValue, final Object value, final int type, final boolean dump)
+    {
+        final boolean hasChanged = !compareValues (this.oldValues.get (cacheAddress), testValue);
+        if (!hasChanged && !dump && !this.isCollectingDump)
             return;
-        this.oldValues.put (cacheAddress, testValue);
-        synchronized (this.messages)
+
+        final PendingMessage message = new PendingMessage (address, value, type);
+        if (hasChanged)
+        {
+            this.oldValues.put (cacheAddress, testValue);
+            this.lastMessages.put (cacheAddress, message);
+        }
+
+        if (hasChanged || dump)
+            this.messages.add (message);
+        if (this.isCollectingDump)
+            this.dumpMessages.add (message);
+    }
+
+
+    /**
+     * Converts the collected values into OSC messages and hands them to the sender thread, which
+     * sends them as a bundle to the clients. If the sender thread is not running, they are sent
+     * directly.
+     *
+     * @param messages The messages to send, the list can be reused afterwards
+     * @param servers The servers of the clients
+     * @return False if the send queue is full
+     */
+    private boolean send (final List<PendingMessage> messages, final List<IOpenSoundControlServer> servers)
+    {
+        final List<IOpenSoundControlMessage> oscMessages = new ArrayList<> (messages.size ());
+        for (final PendingMessage message: messages)
+            oscMessages.add (this.host.createOSCMessage (message.address, message.format ()));
+        this.logMessages (oscMessages);
+
+        final SendBatch batch = new SendBatch (oscMessages, servers);
+        if (this.senderThread != null)
+            return this.sendQueue.offer (batch);
+        this.sendBundles (batch);
+        this.reportSendError ();
+        return true;
+    }
+
+
+    /**
+     * Loop of the sender thread. Only sends the bundles, which were created on the controller
+     * thread.
+     */
+    private void processSendQueue ()
+    {
+        try
+        {
+            while (true)
+            {
+                final SendBatch batch = this.sendQueue.take ();
+                if (batch == STOP)
+                    return;
+                this.sendBundles (batch);
+            }
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    /**
+     * Send the messages of a batch as one bundle to each of its servers. Errors are reported with
+     * the next flush on the controller thread.
+     *
+     * @param batch The batch to send
+     */
+    private void sendBundles (final SendBatch batch)
+    {
+        for (final IOpenSoundControlServer server: batch.servers)
         {
-            final Object converted = convertBooleanToInt (value);
-            this.messages.add (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)));
+            try
+            {
+                server.sendBundle (batch.messages);
+            }
+            catch (final IOException ex)
+            {
+                this.sendError.compareAndSet (null, ex);
+            }
         }
     }
 
 
+    private void reportSendError ()
+    {
+        final IOException ex = this.sendError.getAndSet (null);
+        if (ex != null)
+            this.host.error ("Could not send UDP message.", ex);
+    }
+
+
     protected boolean isConnected ()
     {
         return this.oscServer != null;
@@ -211,6 +575,9 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
             return true;
         }
 
+        if (value1 instanceof byte [] && value2 instanceof byte [])
+            return Arrays.equals ((byte []) value1, (byte []) value2);
+
         return value1.equals (value2);
     }
 
@@ -221,6 +588,87 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * A registered OSC client.
+     */
+    private static class Client
+    {
+        final IOpenSoundControlServer server;
+        boolean                       needsDump = true;
+
+
+        Client (final IOpenSoundControlServer server)
+        {
+            this.server = server;
+        }
+    }
+
+
+    /**
+     * The OSC messages of a flush and the servers to which they need to be sent.
+     */
+    private static class SendBatch
+    {
+        final List<IOpenSoundControlMessage> messages;
+        final List<IOpenSoundControlServer>  servers;
+
+
+        SendBatch (final List<IOpenSoundControlMessage> messages, final List<IOpenSoundControlServer> servers)
+        {
+            this.messages = messages;
+            this.servers = servers;
+        }
+    }
+
+
+    /**
+     * A changed value captured during the flush. It is formatted into the OSC message values when
+     * it is sent.
+     */
+    private static class PendingMessage
+    {
+        static final int     TYPE_VALUE = 0;
+        static final int     TYPE_TEXT  = 1;
+        static final int     TYPE_COLOR = 2;
+
+        final String         address;
+        private final Object value;
+        private final int    type;
+
+
+        PendingMessage (final String address, final Object value, final int type)
+        {
+            this.address = address;
+            this.value = value;
+            this.type = type;
+        }
+
+
+        /**
+         * Format the value into the parameters of the OSC message.
+         *
+         * @return The parameters
+         */
+        @SuppressWarnings("unchecked")
+        List<Object> format ()
+        {
+            switch (this.type)
+            {
+                case TYPE_TEXT:
+                    return Collections.singletonList (StringUtils.fixASCII ((String) this.value));
+
+                case TYPE_COLOR:
+                    final int rgb = ((Integer) this.value).intValue ();
+                    return Collections.singletonList ("rgb(" + (rgb >> 16 & 0xFF) + "," + (rgb >> 8 & 0xFF) + "," + (rgb & 0xFF) + ")");
+
+                default:
+                    final Object converted = convertBooleanToInt (this.value);
+                    return converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted);
+            }
+        }
+    }
+
+
     protected void logMessages (final List<IOpenSoundControlMessage> messages)
     {
         if (!this.configuration.shouldLogOutputCommands () || messages.isEmpty ())
@@ -242,7 +690,10 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
             {
                 if (i > 0)
                     sb.append (", ");
-                sb.append (values[i]);
+                if (values[i] instanceof byte [])
+                    sb.append ("blob(").append (((byte []) values[i]).length).append (" bytes)");
+                else
+                    sb.append (values[i]);
             }
             sb.append (" ]");
         }
@@ -19,6 +19,27 @@ public interface IOpenSoundControlWriter
     void flush (boolean dump);
 
 
+    /**
+     * Request a full dump of all values for one client. The dump is sent with the next flush only
+     * to this client.
+     *
+     * @param clientIndex The index of the client, 0 is the client configured as the main send host
+     */
+    void requestDump (int clientIndex);
+
+
+    /**
+     * Sends the last sent values of all addresses which belong to the sub-tree of the given
+     * pattern, e.g. /track/3 or /device/*. A star matches one part of an address. The values are
+     * read from the cache, the DAW state is not read again.
+     *
+     * @param pattern The address pattern
+     * @param clientIndex The index of the client to which to send the values, -1 to send them to
+     *            all clients
+     */
+    void query (String pattern, int clientIndex);
+
+
     /**
      * Sends the message and calls flush.
      *
@@ -34,4 +55,16 @@ public interface IOpenSoundControlWriter
      * @param address The OSC address
      */
     void fastSendOSC (String address);
+
+
+    /**
+     * Starts the thread which sends the OSC messages. Until then the messages are sent directly.
+     */
+    void start ();
+
+
+    /**
+     * Stops sending. Waits a short time for the already queued messages to be sent.
+     */
+    void shutdown ();
 }
@@ -0,0 +1,71 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.scale;
+
+/**
+ * The reverse of a note map (pad to note): contains all pads which play a note. The index is
+ * rebuilt whenever a different note map is used.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReverseNoteMap
+{
+    private static final int [] NO_PADS = new int [0];
+
+    private final int [] []     pads    = new int [128] [];
+    private int []              noteMap;
+
+
+    /**
+     * Constructor.
+     */
+    public ReverseNoteMap ()
+    {
+        this.rebuild (Scales.getEmptyMatrix ());
+    }
+
+
+    /**
+     * Get all pads which play the given note.
+     *
+     * @param noteMap The note map (index is the pad, the value the note or -1)
+     * @param note The note
+     * @return The indices of the pads, empty array if none
+     */
+    public int [] getPads (final int [] noteMap, final int note)
+    {
+        if (note < 0 || note > 127)
+            return NO_PADS;
+        if (this.noteMap != noteMap)
+            this.rebuild (noteMap);
+        return this.pads[note];
+    }
+
+
+    private void rebuild (final int [] noteMap)
+    {
+        this.noteMap = noteMap;
+
+        final int [] count = new int [128];
+        for (final int note: noteMap)
+        {
+            if (note >= 0)
+                count[note]++;
+        }
+
+        for (int note = 0; note < 128; note++)
+        {
+            this.pads[note] = count[note] == 0 ? NO_PADS : new int [count[note]];
+            count[note] = 0;
+        }
+
+        for (int pad = 0; pad < noteMap.length; pad++)
+        {
+            final int note = noteMap[pad];
+            if (note >= 0)
+                this.pads[note][count[note]++] = pad;
+        }
+    }
+}
@@ -161,8 +161,6 @@ public class Scales
         this.endNote = endNote; // last note + 1
         this.numColumns = numColumns;
         this.numRows = numRows;
-
-        this.generateMatrices ();
     }
 
 
@@ -517,7 +515,7 @@ public class Scales
     public void setPlayShift (final int shift)
     {
         this.shift = shift;
-        this.generateMatrices ();
+        this.scaleGrids.clear ();
     }
 
 
@@ -791,7 +789,7 @@ public class Scales
      */
     public int [] getActiveMatrix ()
     {
-        final ScaleGrid scaleGrid = this.scaleGrids.get (this.selectedScale);
+        final ScaleGrid scaleGrid = this.getScaleGrid (this.selectedScale);
         return this.isChromatic () ? scaleGrid.getChromatic () : scaleGrid.getMatrix ();
     }
 
@@ -809,13 +807,32 @@ public class Scales
 
 
     /**
-     * Generate all matrices for all scales.
+     * Generate the matrices of all scales which were not used yet. The matrices are otherwise
+     * generated on first use, therefore calling this is optional and only moves the work to a time
+     * where it does not delay anything, e.g. after the startup.
      */
-    private void generateMatrices ()
+    public void generateMatrices ()
     {
-        this.scaleGrids.clear ();
         for (final Scale scale: Scale.values ())
-            this.scaleGrids.put (scale, new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift));
+            this.getScaleGrid (scale);
+    }
+
+
+    /**
+     * Get the matrices of a scale. Generates them if not already done.
+     *
+     * @param scale The scale
+     * @return The matrices
+     */
+    private ScaleGrid getScaleGrid (final Scale scale)
+    {
+        ScaleGrid scaleGrid = this.scaleGrids.get (scale);
+        if (scaleGrid == null)
+        {
+            scaleGrid = new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift);
+            this.scaleGrids.put (scale, scaleGrid);
+        }
+        return scaleGrid;
     }
 
 
@@ -0,0 +1,89 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.Locale;
+
+
+/**
+ * Collects the number of hits and misses of a cache.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HitCounter
+{
+    private int hits;
+    private int misses;
+
+
+    /**
+     * Count a cache hit.
+     */
+    public synchronized void hit ()
+    {
+        this.hits++;
+    }
+
+
+    /**
+     * Count a cache miss.
+     */
+    public synchronized void miss ()
+    {
+        this.misses++;
+    }
+
+
+    /**
+     * Get the number of hits.
+     *
+     * @return The number
+     */
+    public synchronized int getHits ()
+    {
+        return this.hits;
+    }
+
+
+    /**
+     * Get the number of misses.
+     *
+     * @return The number
+     */
+    public synchronized int getMisses ()
+    {
+        return this.misses;
+    }
+
+
+    /**
+     * Get the ratio of hits to all lookups.
+     *
+     * @return The hit rate in the range of [0..1], 0 if nothing was looked up yet
+     */
+    public synchronized double getHitRate ()
+    {
+        final int count = this.hits + this.misses;
+        return count == 0 ? 0 : this.hits / (double) count;
+    }
+
+
+    /**
+     * Reset all values.
+     */
+    public synchronized void reset ()
+    {
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return String.format (Locale.US, "%d hits, %d misses, %.1f %%", Integer.valueOf (this.getHits ()), Integer.valueOf (this.getMisses ()), Double.valueOf (this.getHitRate () * 100.0));
+    }
+}
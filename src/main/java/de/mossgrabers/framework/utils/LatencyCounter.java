@@ -0,0 +1,86 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.Locale;
+
+
+/**
+ * Collects the number, average and maximum of measured latencies.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LatencyCounter
+{
+    private int  count;
+    private long total;
+    private long max;
+
+
+    /**
+     * Add a measured latency.
+     *
+     * @param nanos The latency in nano-seconds
+     */
+    public synchronized void record (final long nanos)
+    {
+        this.count++;
+        this.total += nanos;
+        if (nanos > this.max)
+            this.max = nanos;
+    }
+
+
+    /**
+     * Get the number of measured latencies.
+     *
+     * @return The number
+     */
+    public synchronized int getCount ()
+    {
+        return this.count;
+    }
+
+
+    /**
+     * Get the average latency.
+     *
+     * @return The average in milli-seconds, 0 if nothing was measured yet
+     */
+    public synchronized double getAverageMillis ()
+    {
+        return this.count == 0 ? 0 : this.total / (double) this.count / 1000000.0;
+    }
+
+
+    /**
+     * Get the maximum latency.
+     *
+     * @return The maximum in milli-seconds
+     */
+    public synchronized double getMaxMillis ()
+    {
+        return this.max / 1000000.0;
+    }
+
+
+    /**
+     * Reset all values.
+     */
+    public synchronized void reset ()
+    {
+        this.count = 0;
+        this.total = 0;
+        this.max = 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return String.format (Locale.US, "%d measured, avg %.1f ms, max %.1f ms", Integer.valueOf (this.getCount ()), Double.valueOf (this.getAverageMillis ()), Double.valueOf (this.getMaxMillis ()));
+    }
+}
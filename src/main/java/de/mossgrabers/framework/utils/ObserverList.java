@@ -0,0 +1,124 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.Arrays;
+
+
+/**
+ * A list of observers which are notified much more often than the list changes. The observers are
+ * stored in an array which is copied on each change. Therefore, the array returned by
+ * getObservers() can be iterated without allocations and is not affected by observers which are
+ * added or removed during a notification. An observer is only added once.
+ *
+ * @param <T> The type of the observers
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ObserverList<T>
+{
+    private volatile T [] observers;
+
+
+    /**
+     * Constructor.
+     *
+     * @param empty An empty array of the observer type, e.g. new NoteObserver [0]
+     */
+    public ObserverList (final T [] empty)
+    {
+        this.observers = empty.length == 0 ? empty : Arrays.copyOf (empty, 0);
+    }
+
+
+    /**
+     * Add an observer.
+     *
+     * @param observer The observer to add
+     * @return True if added, false if it was already present
+     */
+    public synchronized boolean add (final T observer)
+    {
+        final T [] current = this.observers;
+        if (indexOf (current, observer) >= 0)
+            return false;
+        final T [] list = Arrays.copyOf (current, current.length + 1);
+        list[current.length] = observer;
+        this.observers = list;
+        return true;
+    }
+
+
+    /**
+     * Remove an observer.
+     *
+     * @param observer The observer to remove
+     * @return True if removed, false if it was not present
+     */
+    public synchronized boolean remove (final T observer)
+    {
+        final T [] current = this.observers;
+        final int index = indexOf (current, observer);
+        if (index < 0)
+            return false;
+        final T [] list = Arrays.copyOf (current, current.length - 1);
+        System.arraycopy (current, index + 1, list, index, current.length - index - 1);
+        this.observers = list;
+        return true;
+    }
+
+
+    /**
+     * Remove all observers.
+     */
+    public synchronized void clear ()
+    {
+        this.observers = Arrays.copyOf (this.observers, 0);
+    }
+
+
+    /**
+     * Get the current observers. The array must not be modified.
+     *
+     * @return The observers
+     */
+    public T [] getObservers ()
+    {
+        return this.observers;
+    }
+
+
+    /**
+     * Get the number of observers.
+     *
+     * @return The number
+     */
+    public int size ()
+    {
+        return this.observers.length;
+    }
+
+
+    /**
+     * Check if there are no observers.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.observers.length == 0;
+    }
+
+
+    private static <T> int indexOf (final T [] list, final T observer)
+    {
+        for (int i = 0; i < list.length; i++)
+        {
+            if (list[i].equals (observer))
+                return i;
+        }
+        return -1;
+    }
+}
@@ -4,6 +4,12 @@
 
 package de.mossgrabers.framework.utils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
 /**
  * Helper class for string methods.
  *
@@ -11,7 +17,7 @@ package de.mossgrabers.framework.utils;
  */
 public class StringUtils
 {
-    private static final char [] REMOVABLE_CHARS =
+    private static final char []                   REMOVABLE_CHARS =
     {
         ' ',
         'e',
@@ -21,6 +27,20 @@ public class StringUtils
         'o'
     };
 
+    /** The maximum number of results which are cached for each length. */
+    private static final int                       MAX_CACHED      = 512;
+    /** Results are only cached for lengths below this value. */
+    private static final int                       MAX_LENGTH      = 64;
+
+    private static final Map<String, String>       FIXED           = createCache ();
+    private static final List<Map<String, String>> SHORTENED       = new ArrayList<> (MAX_LENGTH);
+
+    static
+    {
+        for (int i = 0; i < MAX_LENGTH; i++)
+            SHORTENED.add (createCache ());
+    }
+
 
     /**
      * Construcotr, private due to help class.
@@ -44,6 +64,62 @@ public class StringUtils
     }
 
 
+    /**
+     * Get a cached result.
+     *
+     * @param cache The cache
+     * @param key The original text
+     * @return The result or null if not cached
+     */
+    private static String getCached (final Map<String, String> cache, final String key)
+    {
+        synchronized (cache)
+        {
+            return cache.get (key);
+        }
+    }
+
+
+    /**
+     * Cache a result.
+     *
+     * @param cache The cache
+     * @param key The original text
+     * @param value The result
+     * @return The result
+     */
+    private static String putCached (final Map<String, String> cache, final String key, final String value)
+    {
+        synchronized (cache)
+        {
+            cache.put (key, value);
+        }
+        return value;
+    }
+
+
+    /**
+     * Create a cache which removes the least recently used entry if it gets too large.
+     *
+     * @return The cache
+     */
+    private static Map<String, String> createCache ()
+    {
+        return new LinkedHashMap<String, String> (16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<String, String> eldest)
+            {
+                return this.size () > MAX_CACHED;
+            }
+        };
+    }
+
+
     /**
      * Replace umlauts with alternative writing.
      *
@@ -54,8 +130,21 @@ public class StringUtils
     {
         if (name == null)
             return null;
-        final StringBuilder str = new StringBuilder ();
-        for (int i = 0; i < name.length (); i++)
+
+        // Most names do not need to be changed
+        final int length = name.length ();
+        int first = 0;
+        while (first < length && name.charAt (first) <= 127)
+            first++;
+        if (first == length)
+            return name;
+
+        final String cached = getCached (FIXED, name);
+        if (cached != null)
+            return cached;
+
+        final StringBuilder str = new StringBuilder (length + 8).append (name, 0, first);
+        for (int i = first; i < length; i++)
         {
             final char c = name.charAt (i);
             if (c > 127)
@@ -99,12 +188,13 @@ public class StringUtils
             else
                 str.append (c);
         }
-        return str.toString ();
+        return putCached (FIXED, name, str.toString ());
     }
 
 
     /**
-     * Shortens a text to the given length.
+     * Shortens a text to the given length. First removes spaces, then the vowels e, a, u, i and o
+     * (each from left to right) until the text fits. If it is still too long it is cut.
      *
      * @param text The text to shorten
      * @param length The length to shorten to
@@ -114,21 +204,67 @@ public class StringUtils
     {
         if (text == null)
             return "";
+        if (text.length () <= length)
+            return text;
+        if (length < 0 || length >= MAX_LENGTH)
+            return shorten (text, Math.max (0, length));
+
+        final Map<String, String> cache = SHORTENED.get (length);
+        final String cached = getCached (cache, text);
+        return cached == null ? putCached (cache, text, shorten (text, length)) : cached;
+    }
+
+
+    /**
+     * Shortens a text to the given length, see optimizeName.
+     *
+     * @param text The text to shorten, longer than the length
+     * @param length The length to shorten to
+     * @return The shortened text
+     */
+    private static String shorten (final String text, final int length)
+    {
+        final char [] chars = text.toCharArray ();
 
-        String shortened = text;
-        for (final char element: REMOVABLE_CHARS)
+        // Count the removable characters
+        final int [] removable = new int [REMOVABLE_CHARS.length];
+        for (final char c: chars)
         {
-            if (shortened.length () <= length)
-                return shortened;
-            int pos;
-            while ((pos = shortened.indexOf (element)) != -1)
-            {
-                shortened = shortened.substring (0, pos) + shortened.substring (pos + 1, shortened.length ());
-                if (shortened.length () <= length)
-                    return shortened;
-            }
+            final int index = getRemovableIndex (c);
+            if (index >= 0)
+                removable[index]++;
+        }
+
+        // Calculate how many of each need to be removed, in the order of their priority
+        int toRemove = chars.length - length;
+        for (int i = 0; i < removable.length; i++)
+        {
+            removable[i] = Math.min (removable[i], toRemove);
+            toRemove -= removable[i];
+        }
+
+        // Remove the leftmost occurrences and cut the rest
+        int pos = 0;
+        for (final char c: chars)
+        {
+            final int index = getRemovableIndex (c);
+            if (index >= 0 && removable[index] > 0)
+                removable[index]--;
+            else
+                chars[pos++] = c;
+        }
+        return new String (chars, 0, Math.min (pos, length));
+    }
+
+
+    private static int getRemovableIndex (final char c)
+    {
+        for (int i = 0; i < REMOVABLE_CHARS.length; i++)
+        {
+            if (REMOVABLE_CHARS[i] == c)
+                return i;
         }
-        return shortened.length () <= length ? shortened : shortened.substring (0, length);
+        return -1;
     }
 
 
@@ -305,6 +305,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         final int newDrumOctave = this.scales.getDrumOctave ();
         this.offsetY = AbstractDrumView.DRUM_START_KEY + newDrumOctave * 16;
         this.updateNoteMapping ();
+        this.model.getTrackBank ().resendPlayingNotes ();
         this.surface.getDisplay ().notify (this.scales.getDrumRangeText (), true, true);
         if (oldDrumOctave != newDrumOctave)
             this.model.getPrimaryDevice ().scrollDrumPadsPageUp ();
@@ -323,6 +324,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         final int newDrumOctave = this.scales.getDrumOctave ();
         this.offsetY = AbstractDrumView.DRUM_START_KEY + newDrumOctave * 16;
         this.updateNoteMapping ();
+        this.model.getTrackBank ().resendPlayingNotes ();
         this.surface.getDisplay ().notify (this.scales.getDrumRangeText (), true, true);
         if (oldDrumOctave != newDrumOctave)
             this.model.getPrimaryDevice ().scrollDrumPadsPageDown ();
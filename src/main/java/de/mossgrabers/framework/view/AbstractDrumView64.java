@@ -10,6 +10,7 @@ import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ObserverFacet;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -94,9 +95,8 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
     {
         super.onActivate ();
 
-        final ICursorDevice drumDevice64 = this.model.getDrumDevice64 ();
-        drumDevice64.enableObservers (true);
-        drumDevice64.setDrumPadIndication (true);
+        this.model.getObserverSubscriptions ().acquire (ObserverFacet.DRUM_PADS_64, this);
+        this.model.getDrumDevice64 ().setDrumPadIndication (true);
     }
 
 
@@ -106,9 +106,8 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
     {
         super.onDeactivate ();
 
-        final ICursorDevice drumDevice64 = this.model.getDrumDevice64 ();
-        drumDevice64.enableObservers (false);
-        drumDevice64.setDrumPadIndication (false);
+        this.model.getObserverSubscriptions ().release (ObserverFacet.DRUM_PADS_64, this);
+        this.model.getDrumDevice64 ().setDrumPadIndication (false);
     }
 
 
@@ -228,6 +227,7 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
         this.drumOctave = Math.max (-2, this.drumOctave - 1);
         this.offsetY = DRUM_START_KEY + this.drumOctave * 16;
         this.updateNoteMapping ();
+        this.model.getTrackBank ().resendPlayingNotes ();
         this.surface.getDisplay ().notify (this.getDrumRangeText (), true, true);
 
         if (oldDrumOctave != this.drumOctave)
@@ -252,6 +252,7 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
         this.drumOctave = Math.min (1, this.drumOctave + 1);
         this.offsetY = DRUM_START_KEY + this.drumOctave * 16;
         this.updateNoteMapping ();
+        this.model.getTrackBank ().resendPlayingNotes ();
         this.surface.getDisplay ().notify (this.getDrumRangeText (), true, true);
         if (oldDrumOctave != this.drumOctave)
         {
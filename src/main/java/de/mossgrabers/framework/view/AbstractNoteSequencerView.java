@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.ICursorClip;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.Versioned;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -178,6 +179,18 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Versioned [] getGridDependencies ()
+    {
+        return new Versioned []
+        {
+            this.getClip (),
+            this.model.getSelectedTrack ()
+        };
+    }
+
+
     /**
      * Get the color for a step.
      *
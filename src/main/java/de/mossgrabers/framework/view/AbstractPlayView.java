@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.scale.ReverseNoteMap;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
@@ -29,15 +30,16 @@ import java.util.List;
 public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C> implements TransposeView
 {
     /** ID of the color to use when a pad is played. */
-    public static final String COLOR_PLAY   = "PLAY_VIEW_COLOR_PLAY";
+    public static final String   COLOR_PLAY   = "PLAY_VIEW_COLOR_PLAY";
     /** ID of the color to use when a pad is played and recording is enabled. */
-    public static final String COLOR_RECORD = "PLAY_VIEW_COLOR_RECORD";
+    public static final String   COLOR_RECORD = "PLAY_VIEW_COLOR_RECORD";
     /** ID of the color to use when a pad does not contain a note. */
-    public static final String COLOR_OFF    = "PLAY_VIEW_COLOR_OFF";
+    public static final String   COLOR_OFF    = "PLAY_VIEW_COLOR_OFF";
 
-    protected int []           pressedKeys;
-    protected int []           defaultVelocity;
-    private boolean            useTrackColor;
+    protected int []             pressedKeys;
+    protected int []             defaultVelocity;
+    private boolean              useTrackColor;
+    private final ReverseNoteMap padsOfNotes  = new ReverseNoteMap ();
 
 
     /**
@@ -137,6 +139,7 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
         this.clearPressedKeys ();
         this.scales.decOctave ();
         this.updateNoteMapping ();
+        this.model.getTrackBank ().resendPlayingNotes ();
         this.surface.getDisplay ().notify (this.scales.getRangeText (), true, true);
     }
 
@@ -150,6 +153,7 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
         this.clearPressedKeys ();
         this.scales.incOctave ();
         this.updateNoteMapping ();
+        this.model.getTrackBank ().resendPlayingNotes ();
         this.surface.getDisplay ().notify (this.scales.getRangeText (), true, true);
     }
 
@@ -179,12 +183,9 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
 
     protected void setPressedKeys (final int note, final int velocity)
     {
-        // Loop over all pads since the note can be present multiple time!
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.noteMap[i] == note)
-                this.pressedKeys[i] = velocity;
-        }
+        // The note can be present on multiple pads!
+        for (final int pad: this.padsOfNotes.getPads (this.noteMap, note))
+            this.pressedKeys[pad] = velocity;
     }
 
 
@@ -69,6 +69,7 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
 
     protected final int              clipRows;
     protected final int              clipCols;
+    private final ICursorClip        clip;
 
 
     /**
@@ -112,7 +113,8 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
 
         this.numSequencerRows = numSequencerRows;
 
-        this.model.getCursorClip (clipCols, clipRows);
+        // The clip must be created during initialization, keep it to not look it up again
+        this.clip = this.model.getCursorClip (clipCols, clipRows);
     }
 
 
@@ -179,7 +181,7 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      */
     public ICursorClip getClip ()
     {
-        return this.model.getCursorClip (this.clipCols, this.clipRows);
+        return this.clip;
     }
 
 
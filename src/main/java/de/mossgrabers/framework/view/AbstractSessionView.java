@@ -10,6 +10,9 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ITrackMetadataCache;
+import de.mossgrabers.framework.daw.ObserverFacet;
+import de.mossgrabers.framework.daw.Versioned;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -69,6 +72,27 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void onActivate ()
+    {
+        super.onActivate ();
+
+        // Provides the clip states for the birds eye view
+        this.model.getObserverSubscriptions ().acquire (ObserverFacet.TRACK_METADATA, this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDeactivate ()
+    {
+        super.onDeactivate ();
+
+        this.model.getObserverSubscriptions ().release (ObserverFacet.TRACK_METADATA, this);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onGridNote (final int note, final int velocity)
@@ -144,6 +168,15 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Versioned [] getGridDependencies ()
+    {
+        // The birds eye view displays the number of scenes, which does not count its changes
+        return this.surface.isShiftPressed () ? null : super.getGridDependencies ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void drawGrid ()
@@ -173,6 +206,7 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
     /**
      * Aggregate the content of 8 pads to 1 pads for quick navigation through the clip matrix.
+     * Blocks which are known to be empty from the track metadata cache are drawn as empty.
      */
     protected void drawBirdsEyeGrid ()
     {
@@ -199,12 +233,22 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
         selX -= offsetX;
         selY -= offsetY;
 
+        // The cache is only valid for the positions of the flat track list
+        final ITrackMetadataCache cache = tb.isFlat () ? this.model.getTrackMetadataCache () : null;
+
         for (int x = 0; x < this.columns; x++)
         {
             final SessionColor rowColor = x < maxX ? this.clipColorHasContent : this.clipColorHasNoContent;
             for (int y = 0; y < this.rows; y++)
             {
                 SessionColor color = y < maxY ? rowColor : this.clipColorHasNoContent;
+                if (cache != null && x < maxX && y < maxY)
+                {
+                    final int firstTrack = (flipSession ? offsetY + y : offsetX + x) * numTracks;
+                    final int firstScene = (flipSession ? offsetX + x : offsetY + y) * numScenes;
+                    if (cache.isKnown (firstTrack, numTracks, firstScene, numScenes) && !cache.hasContent (firstTrack, numTracks, firstScene, numScenes))
+                        color = this.clipColorHasNoContent;
+                }
                 if (selX == x && selY == y)
                     color = this.clipColorIsPlaying;
                 this.surface.getPadGrid ().lightEx (x, y, color.getColor (), color.getBlink (), color.isFast ());
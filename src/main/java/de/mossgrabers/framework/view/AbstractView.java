@@ -12,6 +12,8 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VersionSnapshot;
+import de.mossgrabers.framework.daw.Versioned;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.Mode;
 import de.mossgrabers.framework.scale.Scales;
@@ -51,6 +53,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     protected int []                              noteMap;
 
     private final String                          name;
+    private final VersionSnapshot                 gridVersions       = new VersionSnapshot ();
 
 
     /**
@@ -105,6 +108,32 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isGridRedrawRequired ()
+    {
+        final Versioned [] dependencies = this.getGridDependencies ();
+        return dependencies == null || this.gridVersions.update (this.surface.getLocalVersion (), dependencies);
+    }
+
+
+    /**
+     * Get the model objects which are displayed on the grid. The grid is only drawn if one of them
+     * or the local state (e.g. a pressed button) has changed. By default, the grid depends on the
+     * whole model. Views which display data which does not count its changes (e.g. the browser or
+     * the scenes) must return null.
+     *
+     * @return The objects or null to always draw the grid
+     */
+    protected Versioned [] getGridDependencies ()
+    {
+        return new Versioned []
+        {
+            this.model
+        };
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateControlSurface ()
@@ -112,7 +141,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
         final Mode m = this.surface.getModeManager ().getActiveMode ();
         if (m != null)
         {
-            m.updateDisplay ();
+            if (m.isDisplayUpdateRequired ())
+                m.updateDisplay ();
             m.updateFirstRow ();
             m.updateSecondRow ();
         }
@@ -169,6 +169,15 @@ public interface View
     void drawGrid ();
 
 
+    /**
+     * Check if the grid needs to be drawn, since something it depends on has changed since the last
+     * call.
+     *
+     * @return True if the grid needs to be drawn
+     */
+    boolean isGridRedrawRequired ();
+
+
     /**
      * A pad has been pressed or released.
      *
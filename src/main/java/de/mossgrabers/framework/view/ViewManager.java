@@ -8,10 +8,11 @@ import de.mossgrabers.framework.command.core.AftertouchCommand;
 import de.mossgrabers.framework.command.core.ContinuousCommand;
 import de.mossgrabers.framework.command.core.PitchbendCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.daw.ChangeCounter;
+import de.mossgrabers.framework.daw.Versioned;
+import de.mossgrabers.framework.utils.ObserverList;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 
@@ -20,14 +21,15 @@ import java.util.Map;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class ViewManager
+public class ViewManager implements Versioned
 {
-    private final Map<Integer, View>       views               = new HashMap<> ();
-    private final List<ViewChangeListener> viewChangeListeners = new ArrayList<> ();
-    private final Map<Integer, Integer>    preferredViews      = new HashMap<> ();
+    private final Map<Integer, View>               views               = new HashMap<> ();
+    private final ChangeCounter                    changes             = new ChangeCounter ();
+    private final ObserverList<ViewChangeListener> viewChangeListeners = new ObserverList<> (new ViewChangeListener [0]);
+    private final Map<Integer, Integer>            preferredViews      = new HashMap<> ();
 
-    private Integer                        activeViewId        = Integer.valueOf (-1);
-    private Integer                        previousViewId      = Integer.valueOf (-1);
+    private Integer                                activeViewId        = Integer.valueOf (-1);
+    private Integer                                previousViewId      = Integer.valueOf (-1);
 
 
     /**
@@ -57,6 +59,18 @@ public class ViewManager
     }
 
 
+    /**
+     * Get the version of the active view. It is increased every time the active view changes.
+     *
+     * @return The version
+     */
+    @Override
+    public int getVersion ()
+    {
+        return this.changes.getVersion ();
+    }
+
+
     /**
      * Set the active view.
      *
@@ -64,6 +78,8 @@ public class ViewManager
      */
     public void setActiveView (final Integer viewId)
     {
+        this.changes.changed ();
+
         // Deactivate current view
         View view = this.getActiveView ();
         if (view != null)
@@ -80,7 +96,7 @@ public class ViewManager
         view.onActivate ();
 
         // Notify all view change listeners
-        for (final ViewChangeListener listener: this.viewChangeListeners)
+        for (final ViewChangeListener listener: this.viewChangeListeners.getObservers ())
             listener.call (this.previousViewId, this.activeViewId);
 
     }